@@ -0,0 +1,34 @@
+package com.example.studylearnspringposts.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정 - Gradle 의 -PloadTest.xxx 값이 시스템 프로퍼티로 넘어옴
+ * - 같은 seed 면 같은 사용자 / 게시글 / 요청 순서가 만들어져서 실행 간 비교가 가능함
+ */
+public record LoadTestConfig(long seed, int users, int posts, int authors, String baseUrl, int port,
+                             int concurrency, int warmupSeconds, int durationSeconds, List<String> scenarios,
+                             Path baseline, Path report, boolean saveBaseline, double maxRegressionPercent) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Long.getLong("loadTest.seed", 42L),
+                Integer.getInteger("loadTest.users", 10_000),
+                Integer.getInteger("loadTest.posts", 1_000_000),
+                Integer.getInteger("loadTest.authors", 5_000),
+                System.getProperty("loadTest.baseUrl", ""),
+                Integer.getInteger("loadTest.port", 8080),
+                Integer.getInteger("loadTest.concurrency", 32),
+                Integer.getInteger("loadTest.warmupSeconds", 10),
+                Integer.getInteger("loadTest.durationSeconds", 30),
+                Arrays.stream(System.getProperty("loadTest.scenarios", String.join(",", LoadTestHarness.SCENARIOS))
+                        .split(",")).map(String::trim).filter(name -> !name.isEmpty()).toList(),
+                Paths.get(System.getProperty("loadTest.baseline", "loadtest-baseline.json")),
+                Paths.get(System.getProperty("loadTest.report", "build/loadtest/report.json")),
+                Boolean.parseBoolean(System.getProperty("loadTest.saveBaseline", "false")),
+                Double.parseDouble(System.getProperty("loadTest.maxRegressionPercent", "0")));
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.studylearnspringposts.loadtest;
+
+import com.example.studylearnspringposts.util.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 closed-loop 부하 발생기
+ * - concurrency 개의 워커가 응답을 받으면 바로 다음 요청을 보냄 (워밍업 구간은 집계하지 않음)
+ * - 지연시간은 LatencyHistogram 에 나노초로 기록, 2xx 가 아닌 응답과 IO 오류는 error 로 집계
+ * - closed-loop 이라 서버가 느려지면 요청도 덜 보내게 되어 꼬리 지연이 실제보다 낮게 보일 수 있음
+ *   (coordinated omission) - 같은 설정끼리의 비교용으로 사용
+ * - 전체 목록 GET /api/v1/posts 는 모든 행을 한 번에 돌려주므로 대용량 데이터에서는 시나리오에 넣지 않음
+ */
+public class LoadTestHarness {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    public static final List<String> SCENARIOS = List.of(
+            "post.get", "post.search.author", "post.search.range", "post.create", "auth.login");
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadTestConfig config;
+    private final long maxPostId;
+    private final List<String> authors;
+    private final SyntheticDataGenerator.ZipfSampler authorSampler;
+
+    public LoadTestHarness(String baseUrl, LoadTestConfig config, long maxPostId) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.config = config;
+        this.maxPostId = maxPostId;
+        this.authors = SyntheticDataGenerator.authorNames(config.seed(), config.authors());
+        this.authorSampler = new SyntheticDataGenerator.ZipfSampler(config.authors(), 1.1);
+    }
+
+    /**
+     * 시나리오별 결과
+     * @param throughput 초당 완료된 요청 수 (오류 포함)
+     */
+    public record ScenarioResult(String name, long requests, long errors, double throughput,
+                                 double meanMs, double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    public ScenarioResult run(String scenario) throws InterruptedException {
+        if (!SCENARIOS.contains(scenario)) {
+            throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario + " (가능한 값: " + SCENARIOS + ")");
+        }
+        log.info("[{}] 워밍업 {}초", scenario, config.warmupSeconds());
+        drive(scenario, config.warmupSeconds(), new LatencyHistogram(), new LongAdder(), 0);
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        log.info("[{}] 측정 {}초, 동시 요청 {}", scenario, config.durationSeconds(), config.concurrency());
+        long elapsed = drive(scenario, config.durationSeconds(), histogram, errors, 1);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        double seconds = elapsed / 1_000_000_000.0;
+        return new ScenarioResult(scenario, snapshot.getCount(), errors.sum(),
+                seconds > 0 ? snapshot.getCount() / seconds : 0,
+                snapshot.getMeanNanos() / NANOS_PER_MILLI,
+                snapshot.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                snapshot.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                snapshot.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                snapshot.getMaxNanos() / NANOS_PER_MILLI);
+    }
+
+    // 워커들을 seconds 동안 돌리고 실제 걸린 시간(ns) 반환, phase 는 워밍업과 측정의 요청 순서를 다르게 하기 위한 값
+    private long drive(String scenario, int seconds, LatencyHistogram histogram, LongAdder errors, int phase)
+            throws InterruptedException {
+        if (seconds <= 0) {
+            return 0;
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int worker = 0; worker < config.concurrency(); worker++) {
+                SplittableRandom random = new SplittableRandom(config.seed() * 31 + worker * 7919L + phase);
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = request(scenario, random);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() / 100 != 2) {
+                                errors.increment();
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                        }
+                        histogram.record(System.nanoTime() - start);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("부하 발생 워커 실패", e.getCause());
+                }
+            }
+            return System.nanoTime() - started;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private HttpRequest request(String scenario, SplittableRandom random) {
+        return switch (scenario) {
+            case "post.get" -> get("/api/v1/posts/" + postId(random));
+            case "post.search.author" -> get("/api/v1/posts:search?size=20&author="
+                    + encode(authors.get(authorSampler.sample(random))));
+            case "post.search.range" -> {
+                LocalDateTime from = SyntheticDataGenerator.writeDate(random, LocalDateTime.now());
+                yield get("/api/v1/posts:search?size=20&from=" + encode(format(from))
+                        + "&to=" + encode(format(from.plusDays(7))));
+            }
+            case "post.create" -> post("/api/v1/posts", String.format(
+                    "{\"title\":\"load test %d\",\"author\":\"%s\",\"password\":\"pw1234\",\"content\":\"%s\"}",
+                    random.nextInt(1_000_000), authors.get(authorSampler.sample(random)),
+                    "부하 테스트 본문 load test body ".repeat(1 + random.nextInt(20))));
+            case "auth.login" -> {
+                int index = random.nextInt(config.users());
+                yield post("/api/v1/auth/login", String.format("{\"username\":\"%s\",\"password\":\"%s\"}",
+                        SyntheticDataGenerator.username(index), SyntheticDataGenerator.password(index)));
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+        };
+    }
+
+    // 80% 는 최근 1% 게시글(인기 글), 나머지는 전체에서 고르게
+    private long postId(SplittableRandom random) {
+        long hot = Math.max(1, maxPostId / 100);
+        return random.nextInt(10) < 8
+                ? maxPostId - random.nextLong(hot)
+                : 1 + random.nextLong(maxPostId);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime.withNano(0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
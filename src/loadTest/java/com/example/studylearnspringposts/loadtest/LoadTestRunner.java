@@ -0,0 +1,124 @@
+package com.example.studylearnspringposts.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ./gradlew loadTest 진입점
+ * - loadTest.baseUrl 이 없으면 같은 JVM 에서 합성 데이터를 채운 앱을 띄우고 부하를 줌
+ * - 결과는 build/loadtest/report.json 에 기록하고, 기준 파일(loadtest-baseline.json)이 있으면 시나리오별로 비교
+ * - loadTest.maxRegressionPercent 를 주면 처리량 감소 / p99 증가가 그 비율을 넘을 때 실패 (exit code 1)
+ * - loadTest.saveBaseline=true 면 이번 결과를 기준 파일로 저장
+ */
+public class LoadTestRunner {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    /**
+     * 리포트 / 기준 파일 형식
+     */
+    public record Report(String generatedAt, long seed, int users, int posts, int concurrency,
+                         int durationSeconds, List<LoadTestHarness.ScenarioResult> scenarios) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        ConfigurableApplicationContext context = null;
+        boolean failed;
+        try {
+            String baseUrl = config.baseUrl();
+            long maxPostId = config.posts();
+            if (baseUrl.isEmpty()) {
+                context = LoadTestServer.boot(config, 0);
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                Long maxId = context.getBean(JdbcTemplate.class).queryForObject("SELECT MAX(id) FROM post", Long.class);
+                maxPostId = maxId != null ? maxId : 1;
+            }
+
+            LoadTestHarness harness = new LoadTestHarness(baseUrl, config, maxPostId);
+            List<LoadTestHarness.ScenarioResult> results = new ArrayList<>();
+            for (String scenario : config.scenarios()) {
+                LoadTestHarness.ScenarioResult result = harness.run(scenario);
+                log.info("[{}] {} req/s, p50 {}ms, p99 {}ms, p999 {}ms, max {}ms, errors {}/{}",
+                        result.name(), round(result.throughput()), round(result.p50Ms()), round(result.p99Ms()),
+                        round(result.p999Ms()), round(result.maxMs()), result.errors(), result.requests());
+                results.add(result);
+            }
+
+            Report report = new Report(LocalDateTime.now().toString(), config.seed(), config.users(), config.posts(),
+                    config.concurrency(), config.durationSeconds(), results);
+            Files.createDirectories(config.report().toAbsolutePath().getParent());
+            objectMapper.writeValue(config.report().toFile(), report);
+            log.info("리포트 저장 - {}", config.report().toAbsolutePath());
+
+            failed = compareWithBaseline(objectMapper, config, report);
+            if (config.saveBaseline()) {
+                objectMapper.writeValue(config.baseline().toFile(), report);
+                log.info("기준 파일 저장 - {}", config.baseline().toAbsolutePath());
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    // 기준 파일과 비교해서 허용 비율을 넘는 회귀가 있으면 true
+    private static boolean compareWithBaseline(ObjectMapper objectMapper, LoadTestConfig config, Report report)
+            throws Exception {
+        Path baselinePath = config.baseline();
+        if (!Files.exists(baselinePath)) {
+            log.info("기준 파일 없음 ({}) - 비교 생략", baselinePath.toAbsolutePath());
+            return false;
+        }
+        Report baseline = objectMapper.readValue(baselinePath.toFile(), Report.class);
+        if (baseline.posts() != report.posts() || baseline.users() != report.users()
+                || baseline.concurrency() != report.concurrency()) {
+            log.warn("기준 파일과 데이터 크기 / 동시성 설정이 다름 - 비교 결과는 참고만 할 것");
+        }
+        Map<String, LoadTestHarness.ScenarioResult> previous = baseline.scenarios().stream()
+                .collect(Collectors.toMap(LoadTestHarness.ScenarioResult::name, Function.identity()));
+
+        boolean regressed = false;
+        for (LoadTestHarness.ScenarioResult current : report.scenarios()) {
+            LoadTestHarness.ScenarioResult before = previous.get(current.name());
+            if (before == null) {
+                continue;
+            }
+            double throughputDrop = percentChange(before.throughput(), current.throughput()) * -1;
+            double p99Increase = percentChange(before.p99Ms(), current.p99Ms());
+            log.info("[{}] 처리량 {} → {} req/s ({}%), p99 {} → {}ms ({}%)", current.name(),
+                    round(before.throughput()), round(current.throughput()), round(-throughputDrop),
+                    round(before.p99Ms()), round(current.p99Ms()), round(p99Increase));
+            if (config.maxRegressionPercent() > 0
+                    && (throughputDrop > config.maxRegressionPercent() || p99Increase > config.maxRegressionPercent())) {
+                log.error("[{}] 허용 회귀 비율 {}% 초과", current.name(), config.maxRegressionPercent());
+                regressed = true;
+            }
+        }
+        return regressed;
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
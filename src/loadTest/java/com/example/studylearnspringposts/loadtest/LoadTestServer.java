@@ -0,0 +1,45 @@
+package com.example.studylearnspringposts.loadtest;
+
+import com.example.studylearnspringposts.StudyLearnSpringPostsApplication;
+import com.example.studylearnspringposts.service.AuthorPostSummaryService;
+import com.example.studylearnspringposts.service.UsernameFilter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 합성 데이터를 채운 애플리케이션을 띄움
+ * - ./gradlew loadTestServer : 8080 포트로 띄워두고 다른 도구(또는 -PloadTest.baseUrl 을 준 loadTest)로 부하를 줄 때
+ * - LoadTestRunner 는 같은 JVM 안에서 임의 포트로 띄워서 사용
+ */
+public class LoadTestServer {
+
+    public static void main(String[] args) {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        boot(config, config.port());
+    }
+
+    static ConfigurableApplicationContext boot(LoadTestConfig config, int port) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(StudyLearnSpringPostsApplication.class)
+                .properties(
+                        "server.port=" + port,
+                        // 요청마다 SQL / DEBUG 로그를 남기면 측정값이 로그 출력 속도에 묶임
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.springframework.web=INFO",
+                        "logging.level.org.springframework.security=WARN",
+                        "logging.level.com.example.studylearnspringposts=INFO",
+                        "spring.devtools.restart.enabled=false")
+                .run();
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(context.getBean(JdbcTemplate.class),
+                context.getBean(PasswordEncoder.class), config.seed());
+        generator.generateUsers(config.users());
+        generator.generatePosts(config.posts(), config.authors());
+        // 부팅 시점에 만들어진 username 필터에는 방금 넣은 사용자가 없음
+        context.getBean(UsernameFilter.class).rebuild();
+        // 게시글도 JDBC 로 직접 넣었으므로 작성자 요약을 다시 집계
+        context.getBean(AuthorPostSummaryService.class).reconcile();
+        return context;
+    }
+}
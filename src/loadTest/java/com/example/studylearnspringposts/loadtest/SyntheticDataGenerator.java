@@ -0,0 +1,219 @@
+package com.example.studylearnspringposts.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 대량 데이터 생성
+ * - 사용자: lt000000 형식 username, 비밀번호는 PASSWORDS 중 하나를 앱과 같은 BCrypt 인코더로 해시
+ *   (해시는 비밀번호마다 한 번만 계산해서 재사용 - 로그인 시 검증 비용은 실제와 같고 생성 시간만 줄임)
+ * - 게시글: 작성자는 Zipf 분포 (소수 작성자가 대부분의 글 작성), 작성 날짜는 최근일수록 많은 지수 분포
+ * - 본문은 한국어 / 영어 / 혼합 문장을 길이가 치우치게 섞음
+ * - JdbcTemplate 배치 INSERT 로 직접 넣음 (JPA 를 거치지 않음)
+ */
+public class SyntheticDataGenerator {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final String[] PASSWORDS = {"Load!Test1", "Load!Test2", "Load!Test3", "Load!Test4",
+            "Load!Test5", "Load!Test6", "Load!Test7", "Load!Test8"};
+    static final int HISTORY_DAYS = 3 * 365;
+    private static final int MEAN_AGE_DAYS = 120;
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final String[] KOREAN_WORDS = {"오늘", "게시판", "스프링", "개발", "서버", "데이터베이스", "인덱스",
+            "성능", "테스트", "배포", "장애", "회고", "학습", "정리", "질문", "답변", "코드", "리뷰", "트랜잭션", "캐시",
+            "쿼리", "응답", "요청", "사용자", "로그인", "토큰", "보안", "설계", "구조", "모듈", "문서", "경험", "공유",
+            "프로젝트", "팀", "일정", "기능", "버그", "수정", "개선"};
+    private static final String[] ENGLISH_WORDS = {"spring", "boot", "post", "query", "index", "latency", "cache",
+            "token", "deploy", "review", "design", "pattern", "gateway", "service", "thread", "pool", "memory",
+            "heap", "batch", "stream", "json", "http", "client", "server", "bug", "fix", "release", "note", "guide",
+            "tutorial", "benchmark", "profile", "metric", "trace", "schema", "migration", "test", "build", "gradle",
+            "java"};
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오"};
+    private static final String[] GIVEN_NAME_SYLLABLES = {"민", "서", "지", "현", "준", "우", "영", "수", "하", "은",
+            "도", "윤", "진", "호", "연", "성"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final long seed;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.seed = seed;
+    }
+
+    public static String username(int index) {
+        return String.format("lt%06d", index);
+    }
+
+    public static String password(int index) {
+        return PASSWORDS[index % PASSWORDS.length];
+    }
+
+    /**
+     * 작성자 이름 목록 (인덱스가 작을수록 Zipf 분포에서 자주 뽑힘), seed 만으로 다시 만들 수 있음
+     */
+    public static List<String> authorNames(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5DEECE66DL);
+        List<String> authors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = random.nextInt(10) < 7
+                    ? SURNAMES[random.nextInt(SURNAMES.length)]
+                    + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)]
+                    + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)]
+                    : ENGLISH_WORDS[random.nextInt(ENGLISH_WORDS.length)] + "_dev";
+            authors.add(name + i); // 이름이 겹치지 않도록 번호를 붙임
+        }
+        return authors;
+    }
+
+    public void generateUsers(int count) {
+        String[] hashes = new String[PASSWORDS.length];
+        for (int i = 0; i < PASSWORDS.length; i++) {
+            hashes[i] = passwordEncoder.encode(PASSWORDS[i]);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long started = System.nanoTime();
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int batchStart = from;
+            int batchSize = Math.min(BATCH_SIZE, count - from);
+            jdbcTemplate.batchUpdate("INSERT INTO users (username, password, role, age) VALUES (?, ?, ?, ?)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            int index = batchStart + i;
+                            ps.setString(1, username(index));
+                            ps.setString(2, hashes[index % hashes.length]);
+                            ps.setString(3, index % 100 == 0 ? "ROLE_ADMIN" : "ROLE_USER");
+                            ps.setInt(4, 18 + random.nextInt(50));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batchSize;
+                        }
+                    });
+        }
+        log.info("사용자 {}명 생성 - {}ms", count, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void generatePosts(int count, int authorCount) {
+        List<String> authors = authorNames(seed, authorCount);
+        ZipfSampler authorSampler = new ZipfSampler(authorCount, 1.1);
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        LocalDateTime now = LocalDateTime.now();
+        long started = System.nanoTime();
+
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int batchSize = Math.min(BATCH_SIZE, count - from);
+            jdbcTemplate.batchUpdate("INSERT INTO post (title, author, password, content, write_date, "
+                    + "created_date, updated_date, views) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            int language = random.nextInt(100);
+                            Timestamp writeDate = Timestamp.valueOf(writeDate(random, now));
+                            ps.setString(1, truncate(sentence(random, language, 3 + random.nextInt(6)), 200));
+                            ps.setString(2, authors.get(authorSampler.sample(random)));
+                            ps.setString(3, "pw" + random.nextInt(10_000));
+                            ps.setString(4, content(random, language));
+                            ps.setTimestamp(5, writeDate);
+                            ps.setTimestamp(6, writeDate);
+                            ps.setTimestamp(7, writeDate);
+                            // 조회수도 소수 게시글에 몰리도록
+                            ps.setLong(8, (long) Math.floor(Math.exp(random.nextDouble() * 10)) - 1);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batchSize;
+                        }
+                    });
+            if ((from / BATCH_SIZE) % 40 == 0) {
+                log.info("게시글 생성 중 - {}/{}", from + batchSize, count);
+            }
+        }
+        log.info("게시글 {}개 생성 - {}ms", count, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // 지수 분포 - 최근 글이 많고 오래된 글은 드묾 (HISTORY_DAYS 이전은 잘라냄)
+    static LocalDateTime writeDate(SplittableRandom random, LocalDateTime now) {
+        double ageDays = Math.min(-Math.log(1 - random.nextDouble()) * MEAN_AGE_DAYS, HISTORY_DAYS);
+        return now.minusSeconds((long) (ageDays * 86_400));
+    }
+
+    // 언어 비율: 한국어 60%, 영어 25%, 혼합 15%
+    private static String sentence(SplittableRandom random, int language, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            boolean korean = language < 60 || (language >= 85 && random.nextBoolean());
+            sentence.append(korean
+                    ? KOREAN_WORDS[random.nextInt(KOREAN_WORDS.length)]
+                    : ENGLISH_WORDS[random.nextInt(ENGLISH_WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    // 문장 수는 로그정규 분포 (대부분 짧고 가끔 아주 긴 글)
+    private static String content(SplittableRandom random, int language) {
+        int sentences = (int) Math.min(400, Math.max(1, Math.exp(1.5 + random.nextGaussian() * 0.9)));
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            content.append(sentence(random, language, 4 + random.nextInt(10))).append(". ");
+        }
+        return content.toString();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    /**
+     * 0 ~ n-1 을 Zipf(s) 분포로 뽑음 (누적 분포 배열 + 이진 탐색)
+     */
+    public static class ZipfSampler {
+        private final double[] cumulative;
+
+        public ZipfSampler(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        public int sample(SplittableRandom random) {
+            double u = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
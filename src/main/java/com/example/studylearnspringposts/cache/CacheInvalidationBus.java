@@ -0,0 +1,161 @@
+package com.example.studylearnspringposts.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 로컬 캐시 무효화
+ * - 쓰기 쪽은 invalidate(캐시이름, 키) 만 호출 - 트랜잭션 안이면 트랜잭션 단위로 모았다가 끝난 뒤 처리
+ * - 이 노드의 캐시는 트랜잭션이 끝나는 즉시 제거 (롤백이어도 제거 - 제거는 항상 안전)
+ * - 다른 노드로는 커밋된 것만 보내고, batch-interval-ms 동안 쌓인 키를 중복 없이 묶어서 한 번에 전송
+ * - 받는 쪽은 캐시 이름별로 구독자에게 해당 키만 넘김 (전체 비우기 없음)
+ */
+@Component
+public class CacheInvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final InvalidationTransport transport;
+    private final int maxBatchKeys;
+    private final String origin = UUID.randomUUID().toString();
+
+    private final Map<String, List<Consumer<Collection<String>>>> subscribers = new ConcurrentHashMap<>();
+    // 다른 노드로 보낼 키 - Set 이라 같은 키가 여러 번 바뀌어도 한 번만 전송됨
+    private final Set<String> outbound = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sentBatches = new AtomicLong();
+    private final AtomicLong sentKeys = new AtomicLong();
+    private final AtomicLong receivedKeys = new AtomicLong();
+
+    public CacheInvalidationBus(InvalidationTransport transport,
+                                @Value("${cache.invalidation.max-batch-keys:500}") int maxBatchKeys) {
+        this.transport = transport;
+        this.maxBatchKeys = maxBatchKeys;
+        transport.subscribe(this::receive);
+    }
+
+    /**
+     * 캐시 항목 제거 구독 (이 노드의 변경과 다른 노드에서 받은 변경 모두 전달됨)
+     */
+    public void subscribe(String cache, Consumer<Collection<String>> evictor) {
+        subscribers.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(evictor);
+    }
+
+    public void invalidate(String cache, Object key) {
+        String entry = cache + ":" + key;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(List.of(entry));
+            outbound.add(entry);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> keys = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, keys);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                    dispatch(keys);
+                    if (status == STATUS_COMMITTED) {
+                        outbound.addAll(keys);
+                    }
+                }
+            });
+            pending = keys;
+        }
+        pending.add(entry);
+    }
+
+    /**
+     * 쌓인 키를 max-batch-keys 개씩 묶어서 전송, 실패한 묶음은 다시 대기열에 넣음
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.batch-interval-ms:50}")
+    public void flush() {
+        List<String> drained = new ArrayList<>();
+        Iterator<String> iterator = outbound.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        for (int from = 0; from < drained.size(); from += maxBatchKeys) {
+            send(drained.subList(from, Math.min(from + maxBatchKeys, drained.size())));
+        }
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public long getSentBatchCount() {
+        return sentBatches.get();
+    }
+
+    public long getSentKeyCount() {
+        return sentKeys.get();
+    }
+
+    public long getReceivedKeyCount() {
+        return receivedKeys.get();
+    }
+
+    private void send(List<String> keys) {
+        try {
+            transport.send(new InvalidationBatch(origin, List.copyOf(keys)));
+            sentBatches.incrementAndGet();
+            sentKeys.addAndGet(keys.size());
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 전송 실패 - {}건은 다음 주기에 재시도", keys.size(), e);
+            outbound.addAll(keys);
+        }
+    }
+
+    private void receive(InvalidationBatch batch) {
+        if (origin.equals(batch.origin())) {
+            return;
+        }
+        receivedKeys.addAndGet(batch.keys().size());
+        dispatch(batch.keys());
+    }
+
+    // "캐시이름:키" 를 캐시별로 나눠서 구독자에게 전달
+    private void dispatch(Collection<String> entries) {
+        Map<String, List<String>> byCache = new LinkedHashMap<>();
+        for (String entry : entries) {
+            int separator = entry.indexOf(':');
+            if (separator < 0) {
+                continue;
+            }
+            byCache.computeIfAbsent(entry.substring(0, separator), name -> new ArrayList<>())
+                    .add(entry.substring(separator + 1));
+        }
+        byCache.forEach((cache, keys) -> {
+            for (Consumer<Collection<String>> evictor : subscribers.getOrDefault(cache, List.of())) {
+                try {
+                    evictor.accept(keys);
+                } catch (RuntimeException e) {
+                    log.warn("캐시 {} 무효화 처리 실패", cache, e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.studylearnspringposts.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간에 전달되는 캐시 무효화 묶음
+ * @param origin 보낸 노드 id (자기가 보낸 묶음은 받는 쪽에서 무시)
+ * @param keys   "캐시이름:키" 형식, 같은 키는 한 번만 들어감
+ */
+public record InvalidationBatch(String origin, List<String> keys) {
+}
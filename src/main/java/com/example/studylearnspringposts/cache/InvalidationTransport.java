@@ -0,0 +1,16 @@
+package com.example.studylearnspringposts.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지 전달 수단
+ * - cache.invalidation.transport 로 선택 (local: 같은 JVM 안에서만 / jdbc: 공유 DB 테이블을 폴링)
+ * - 전달은 최소 한 번(at-least-once) 기준, 같은 묶음을 다시 받아도 제거만 반복되므로 문제 없음
+ */
+public interface InvalidationTransport {
+    String TRANSPORT_PROPERTY = "cache.invalidation.transport";
+
+    void send(InvalidationBatch batch);
+
+    void subscribe(Consumer<InvalidationBatch> listener);
+}
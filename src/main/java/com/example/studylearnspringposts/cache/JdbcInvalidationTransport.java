@@ -0,0 +1,114 @@
+package com.example.studylearnspringposts.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 공유 DB 의 cache_invalidation 테이블을 통한 전달 (여러 프로세스 / 인스턴스용)
+ * - 보내기: 묶음 하나를 행 하나로 INSERT
+ * - 받기: poll-interval-ms 마다 마지막으로 읽은 id 이후 행을 읽음
+ * - 여러 노드의 INSERT 는 id 순서와 다르게 커밋될 수 있어서 마지막 id 보다 LOOKBACK 만큼 앞부터 다시 읽고,
+ *   이미 전달한 id 는 건너뜀
+ * - 시작 시점 이전의 행은 읽지 않음 (캐시가 비어 있으므로 필요 없음)
+ */
+@Component
+@ConditionalOnProperty(name = InvalidationTransport.TRANSPORT_PROPERTY, havingValue = "jdbc")
+public class JdbcInvalidationTransport implements InvalidationTransport {
+    private static final Logger log = LoggerFactory.getLogger(JdbcInvalidationTransport.class);
+
+    private static final int LOOKBACK = 100;
+    private static final int SEEN_CAPACITY = 4096;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int pollLimit;
+    private final int retentionMinutes;
+
+    private final List<Consumer<InvalidationBatch>> listeners = new CopyOnWriteArrayList<>();
+    // 최근에 전달한 행 id (poll 스레드에서만 접근, 오래된 것부터 제거)
+    private final Set<Long> seen = new LinkedHashSet<>();
+    private volatile long lastId = -1;
+
+    public JdbcInvalidationTransport(JdbcTemplate jdbcTemplate,
+                                     @Value("${cache.invalidation.poll-limit:1000}") int pollLimit,
+                                     @Value("${cache.invalidation.retention-minutes:10}") int retentionMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollLimit = pollLimit;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_invalidation", Long.class);
+        lastId = maxId != null ? maxId : 0;
+    }
+
+    @Override
+    public void send(InvalidationBatch batch) {
+        jdbcTemplate.update("INSERT INTO cache_invalidation (origin, cache_keys, created_at) VALUES (?, ?, ?)",
+                batch.origin(), String.join("\n", batch.keys()), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationBatch> listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:200}")
+    public synchronized void poll() {
+        if (lastId < 0) {
+            return; // 아직 시작 전
+        }
+        List<Row> rows;
+        try {
+            rows = jdbcTemplate.query(
+                    "SELECT id, origin, cache_keys FROM cache_invalidation WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("origin"), rs.getString("cache_keys")),
+                    Math.max(0, lastId - LOOKBACK), pollLimit);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 로그 조회 실패 - 다음 주기에 재시도", e);
+            return;
+        }
+        for (Row row : rows) {
+            if (!seen.add(row.id())) {
+                continue;
+            }
+            if (seen.size() > SEEN_CAPACITY) {
+                seen.remove(seen.iterator().next());
+            }
+            InvalidationBatch batch = new InvalidationBatch(row.origin(), Arrays.asList(row.keys().split("\n")));
+            for (Consumer<InvalidationBatch> listener : listeners) {
+                listener.accept(batch);
+            }
+            lastId = Math.max(lastId, row.id());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        int deleted = jdbcTemplate.update("DELETE FROM cache_invalidation WHERE created_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(retentionMinutes)));
+        if (deleted > 0) {
+            log.debug("오래된 캐시 무효화 로그 {}건 삭제", deleted);
+        }
+    }
+
+    private record Row(long id, String origin, String keys) {
+    }
+}
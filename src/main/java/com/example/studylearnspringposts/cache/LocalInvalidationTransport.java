@@ -0,0 +1,31 @@
+package com.example.studylearnspringposts.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 구독자에게 바로 전달 (단일 인스턴스 / 테스트용)
+ * - 여러 CacheInvalidationBus 가 인스턴스 하나를 공유하면 노드 여러 개를 흉내낼 수 있음
+ */
+@Component
+@ConditionalOnProperty(name = InvalidationTransport.TRANSPORT_PROPERTY, havingValue = "local", matchIfMissing = true)
+public class LocalInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<InvalidationBatch>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(InvalidationBatch batch) {
+        for (Consumer<InvalidationBatch> listener : listeners) {
+            listener.accept(batch);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationBatch> listener) {
+        listeners.add(listener);
+    }
+}
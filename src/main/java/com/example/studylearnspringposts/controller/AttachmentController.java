@@ -0,0 +1,142 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.domain.attachment.vo.PostAttachment;
+import com.example.studylearnspringposts.dto.AttachmentResponseDto;
+import com.example.studylearnspringposts.service.AttachmentService;
+import com.example.studylearnspringposts.util.SegmentBlobStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 첨부파일 API 컨트롤러
+ * - 업로드는 multipart 가 아닌 요청 본문 그대로 (파일 이름은 filename 파라미터, 형식은 Content-Type 헤더)
+ * - 업로드 / 삭제는 게시글 비밀번호를 X-Post-Password 헤더로 받음 (본문이 파일 내용이라)
+ * - 다운로드는 Range 요청 지원 (단일 구간만 206, 여러 구간이면 전체 응답)
+ * - Tomcat 이 sendfile 을 지원하면 세그먼트 파일 구간을 컨테이너가 직접 전송, 아니면 FileChannel.transferTo
+ */
+@RestController
+@RequestMapping("/api/v1/posts/{postId}/attachments")
+@CrossOrigin(origins = "*")
+public class AttachmentController {
+
+    static final String PASSWORD_HEADER = "X-Post-Password";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AttachmentService attachmentService;
+
+    public AttachmentController(AttachmentService attachmentService) {
+        this.attachmentService = attachmentService;
+    }
+
+    /**
+     * 첨부파일 업로드 API
+     */
+    @PostMapping
+    public AttachmentResponseDto upload(@PathVariable Long postId,
+                                        @RequestParam String filename,
+                                        @RequestHeader(PASSWORD_HEADER) String password,
+                                        HttpServletRequest request) throws IOException {
+        return AttachmentResponseDto.fromEntity(attachmentService.upload(
+                postId, password, filename, request.getContentType(), request.getInputStream()));
+    }
+
+    /**
+     * 첨부파일 삭제 API
+     */
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<Void> delete(@PathVariable Long postId, @PathVariable Long attachmentId,
+                                       @RequestHeader(PASSWORD_HEADER) String password) {
+        if (!attachmentService.delete(postId, attachmentId, password)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 첨부파일 목록 조회 API
+     */
+    @GetMapping
+    public List<AttachmentResponseDto> getAttachments(@PathVariable Long postId) {
+        return attachmentService.getAttachments(postId).stream()
+                .map(AttachmentResponseDto::fromEntity)
+                .toList();
+    }
+
+    /**
+     * 첨부파일 다운로드 API
+     */
+    @GetMapping("/{attachmentId}")
+    public void download(@PathVariable Long postId, @PathVariable Long attachmentId,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<PostAttachment> found = attachmentService.findAttachment(postId, attachmentId);
+        if (found.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        PostAttachment attachment = found.get();
+        SegmentBlobStore.BlobLocation location = attachmentService.locate(attachment);
+        long length = location.length();
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 내용 주소 저장이라 해시가 바뀌지 않는 한 내용도 같음
+        response.setHeader(HttpHeaders.ETAG, "\"" + location.hash() + "\"");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFilename(), StandardCharsets.UTF_8).build().toString());
+        response.setContentType(attachment.getContentType());
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                if (range.getRangeStart(length) >= length) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            long offset = location.dataOffset();
+            request.setAttribute(SENDFILE_FILENAME,
+                    attachmentService.segmentPath(location).toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, offset + start);
+            request.setAttribute(SENDFILE_END, offset + end + 1);
+            return;
+        }
+        attachmentService.transferTo(location, start, count, Channels.newChannel(response.getOutputStream()));
+    }
+}
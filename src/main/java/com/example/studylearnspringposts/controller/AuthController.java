@@ -1,5 +1,6 @@
 package com.example.studylearnspringposts.controller;
 
+import com.example.studylearnspringposts.dto.TokenRefreshRequestDto;
 import com.example.studylearnspringposts.dto.UserRequestDto;
 import com.example.studylearnspringposts.dto.UserResponseDto;
 import com.example.studylearnspringposts.service.UserService;
@@ -57,6 +58,41 @@ public class AuthController {
         }
     }
 
+    /**
+     * 토큰 재발급 API
+     * - 리프레시 토큰으로 새 액세스 / 리프레시 토큰 발급 (기존 리프레시 토큰은 폐기)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody TokenRefreshRequestDto requestDto) {
+        try {
+            UserResponseDto response = userService.refresh(requestDto.getRefreshToken());
+            return ResponseEntity.ok()
+                    .header("Authorization", "Bearer " + response.getToken())
+                    .body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("토큰 재발급 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 로그아웃 API
+     * - Authorization 헤더의 액세스 토큰과 (있으면) 리프레시 토큰을 폐기
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+                                    @RequestBody(required = false) TokenRefreshRequestDto requestDto) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring("Bearer ".length()).trim() : null;
+        try {
+            userService.logout(accessToken, requestDto != null ? requestDto.getRefreshToken() : null);
+            return ResponseEntity.ok("로그아웃 되었습니다");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("로그아웃 실패: " + e.getMessage());
+        }
+    }
+
 
 
 
@@ -0,0 +1,46 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.dto.CommentPageDto;
+import com.example.studylearnspringposts.dto.CommentRequestDto;
+import com.example.studylearnspringposts.dto.CommentResponseDto;
+import com.example.studylearnspringposts.service.CommentService;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 댓글 API 컨트롤러
+ * - 조회는 누구나, 작성은 로그인한 사용자만 (작성자는 토큰의 사용자명)
+ */
+@RestController
+@RequestMapping("/api/v1/posts/{postId}/comments")
+@CrossOrigin(origins = "*")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    public CommentController(CommentService commentService) {
+        this.commentService = commentService;
+    }
+
+    /**
+     * 댓글 목록 조회 API (keyset 페이지)
+     * - after 에 이전 응답의 nextCursor 를 넘기면 다음 페이지
+     */
+    @GetMapping
+    public CommentPageDto getComments(@PathVariable Long postId,
+                                      @RequestParam(required = false) Long after,
+                                      @RequestParam(defaultValue = "20") int size) {
+        return commentService.getComments(postId, after, size);
+    }
+
+    /**
+     * 댓글 작성 API
+     */
+    @PostMapping
+    public CommentResponseDto createComment(@PathVariable Long postId,
+                                            @RequestBody CommentRequestDto commentRequestDto,
+                                            Authentication authentication) {
+        return CommentResponseDto.fromEntity(
+                commentService.addComment(postId, authentication.getName(), commentRequestDto));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.security.JwtKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWKS 공개키 API
+ * - 다른 서비스가 공유 비밀 없이 토큰을 검증할 수 있도록 서명 공개키 목록 제공
+ * - 키가 바뀔 때 미리 직렬화해 둔 바이트를 그대로 응답 (요청마다 JSON 변환 없음)
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    public JwksController(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(keyRing.getJwks());
+    }
+}
@@ -1,68 +1,266 @@
 package com.example.studylearnspringposts.controller;
 
 import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.AuthorPostSummaryDto;
+import com.example.studylearnspringposts.dto.PostBatchGetRequestDto;
+import com.example.studylearnspringposts.dto.PostBatchGetResponseDto;
+import com.example.studylearnspringposts.dto.PostPageDto;
 import com.example.studylearnspringposts.dto.PostRequestDto;
 import com.example.studylearnspringposts.dto.PostResponseDto;
+import com.example.studylearnspringposts.dto.PostViewCountDto;
+import com.example.studylearnspringposts.repository.PostFilter;
+import com.example.studylearnspringposts.service.AuthorPostSummaryService;
+import com.example.studylearnspringposts.service.CommentService;
+import com.example.studylearnspringposts.service.PostEventBroadcaster;
+import com.example.studylearnspringposts.service.PostIdempotencyStore;
 import com.example.studylearnspringposts.service.PostService;
-import org.springframework.stereotype.Component;
+import com.example.studylearnspringposts.service.PostViewCounter;
+import com.example.studylearnspringposts.util.SingleFlight;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * 게시글 마이크로서비스 컨트롤러
- * 게시글 관련 비즈니스 로직을 처리
+ * 게시글 API 컨트롤러
+ * - 각 HTTP 경로는 PostService 호출 1번 + DTO 변환 1번으로 처리 (컨트롤러 간 위임 없음)
+ * - 레거시 /board 경로는 별도 컨트롤러를 거치지 않고 같은 핸들러에 경로 별칭으로 매핑
+ *   (@deprecated 새 클라이언트는 /api/v1/posts 를 사용하세요)
  */
-@Component
+@RestController
+@CrossOrigin(origins = "*")
 public class PostController {
-    
+
+    private static final int BATCH_GET_MAX_IDS = 100;
+    private static final int SEARCH_MAX_PAGE_SIZE = 100;
+
     private final PostService postService;
-    
-    public PostController(PostService postService) {
+    private final PostEventBroadcaster postEventBroadcaster;
+    private final PostViewCounter postViewCounter;
+    private final CommentService commentService;
+    private final PostIdempotencyStore postIdempotencyStore;
+    private final AuthorPostSummaryService authorPostSummaryService;
+    // 같은 게시글 단건 조회가 동시에 몰리면 조회 / 변환 / 댓글 수 집계를 한 번만 하고 응답 객체를 공유
+    private final SingleFlight<Long, PostResponseDto> postReads = new SingleFlight<>();
+
+    public PostController(PostService postService, PostEventBroadcaster postEventBroadcaster,
+                          PostViewCounter postViewCounter, CommentService commentService,
+                          PostIdempotencyStore postIdempotencyStore,
+                          AuthorPostSummaryService authorPostSummaryService) {
         this.postService = postService;
+        this.postEventBroadcaster = postEventBroadcaster;
+        this.postViewCounter = postViewCounter;
+        this.commentService = commentService;
+        this.postIdempotencyStore = postIdempotencyStore;
+        this.authorPostSummaryService = authorPostSummaryService;
     }
-    
+
     /**
-     * 전체 게시글 목록 조회 (작성 날짜 기준 내림차순)
+     * 전체 게시글 목록 조회 API
+     * - 제목, 작성자명, 작성 내용, 작성 날짜를 조회
+     * - 작성 날짜 기준 내림차순으로 정렬
+     * - 댓글 수는 게시글 개수와 상관없이 집계 쿼리 1번으로 채움
      */
+    @GetMapping({"/api/v1/posts", "/board"})
     public List<PostResponseDto> getAllPosts() {
-        List<Post> posts = postService.getAllPosts();
-        return posts.stream()
-                .map(PostResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponsesWithCommentCounts(postService.getAllPosts());
     }
-    
+
     /**
-     * 게시글 작성
+     * 게시글 필터 목록 API (keyset 페이지)
+     * - author: 작성자, from / to: 작성 날짜 범위 (from 이상 to 미만, ISO-8601), 모두 생략 가능
+     * - cursor 에 이전 응답의 nextCursor 를 넘기면 다음 페이지 (OFFSET 없이 인덱스 범위 스캔)
      */
-    public PostResponseDto createPost(PostRequestDto postRequestDto) {
-        Post post = postRequestDto.toEntity();
-        Post savedPost = postService.createPost(post);
-        return PostResponseDto.fromEntity(savedPost);
+    @GetMapping("/api/v1/posts:search")
+    public PostPageDto searchPosts(@RequestParam(required = false) String author,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                   @RequestParam(required = false) String cursor,
+                                   @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > SEARCH_MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1 이상 " + SEARCH_MAX_PAGE_SIZE + " 이하로 지정해야 합니다");
+        }
+        PostFilter filter = new PostFilter(author != null && !author.isBlank() ? author : null, from, to, null, null);
+        if (cursor != null && !cursor.isBlank()) {
+            filter = decodeCursor(filter, cursor);
+        }
+
+        // 한 개 더 읽어서 다음 페이지 존재 여부 판단 (별도 count 쿼리 없음)
+        List<Post> posts = postService.searchPosts(filter, size + 1);
+        boolean hasNext = posts.size() > size;
+        List<Post> page = hasNext ? posts.subList(0, size) : posts;
+        return new PostPageDto(toResponsesWithCommentCounts(page),
+                hasNext ? encodeCursor(page.get(page.size() - 1)) : null);
+    }
+
+    // 댓글 수는 게시글 개수와 상관없이 집계 쿼리 1번으로 채움
+    private List<PostResponseDto> toResponsesWithCommentCounts(List<Post> posts) {
+        List<Long> ids = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            ids.add(post.getId());
+        }
+        Map<Long, Long> commentCounts = commentService.countByPostIds(ids);
+
+        List<PostResponseDto> responses = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            PostResponseDto response = PostResponseDto.fromEntity(post);
+            response.setCommentCount(commentCounts.getOrDefault(post.getId(), 0L));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    // 커서 = base64url("작성날짜|id") - 클라이언트는 내용을 해석하지 않고 그대로 돌려줌
+    private static String encodeCursor(Post post) {
+        String raw = post.getWriteDate() + "|" + post.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
-    
+
+    private static PostFilter decodeCursor(PostFilter filter, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return filter.after(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    /**
+     * 게시글 변경 이벤트 스트림 API (Server-Sent Events)
+     * - 게시글 생성/수정/삭제 이벤트를 push (event name: CREATED / UPDATED / DELETED)
+     * - 재접속 시 Last-Event-ID 이후 이벤트를 재전송, 범위를 벗어나면 RESET 이벤트 전송
+     */
+    @GetMapping(value = "/api/v1/posts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPosts(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return postEventBroadcaster.subscribe(lastEventId);
+    }
+
     /**
-     * 특정 게시글 조회
+     * 게시글 일괄 조회 API
+     * - 여러 id 를 한 번의 요청 / 한 번의 IN 쿼리로 조회
+     * - 중복 id 는 한 번만 조회하고, 응답은 요청한 순서대로 정렬 (없는 게시글은 found=false)
      */
-    public PostResponseDto getPostById(Long id) {
-        Optional<Post> post = postService.getPostById(id);
-        return PostResponseDto.fromOptionalEntity(post);
+    @PostMapping("/api/v1/posts:batchGet")
+    public PostBatchGetResponseDto batchGetPosts(@RequestBody PostBatchGetRequestDto requestDto) {
+        return getPostsByIds(requestDto.getIds());
     }
-    
+
+    public PostBatchGetResponseDto getPostsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("조회할 게시글 id 목록이 비어 있습니다");
+        }
+        if (ids.size() > BATCH_GET_MAX_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 최대 " + BATCH_GET_MAX_IDS + "개입니다");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("게시글 id 에 null 이 포함되어 있습니다");
+        }
+
+        Map<Long, PostResponseDto> postsById = new HashMap<>();
+        for (Post post : postService.getPostsByIds(new LinkedHashSet<>(ids))) {
+            postsById.put(post.getId(), PostResponseDto.fromEntity(post));
+        }
+
+        List<PostBatchGetResponseDto.Item> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostResponseDto post = postsById.get(id);
+            items.add(post != null ? PostBatchGetResponseDto.Item.found(post) : PostBatchGetResponseDto.Item.notFound(id));
+        }
+        return new PostBatchGetResponseDto(items);
+    }
+
+    /**
+     * 조회수 상위 게시글 API
+     * - 메모리에 유지 중인 top-K 순위를 그대로 반환 (DB 조회 없음, 조회수는 flush 주기만큼 늦게 반영)
+     */
+    @GetMapping("/api/v1/posts:mostViewed")
+    public List<PostViewCountDto> getMostViewedPosts(@RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > postViewCounter.getTopK()) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + postViewCounter.getTopK() + " 이하로 지정해야 합니다");
+        }
+        return postViewCounter.getMostViewed(limit);
+    }
+
+    /**
+     * 작성자별 게시글 요약 API
+     * - 게시글 수 / 마지막 작성 시각 / 최신 게시글 id 를 미리 계산된 요약 행에서 반환 (post 테이블 집계 없음)
+     */
+    @GetMapping("/api/v1/posts:authorSummary")
+    public AuthorPostSummaryDto getAuthorSummary(@RequestParam String author) {
+        if (author.isBlank()) {
+            throw new IllegalArgumentException("author 를 지정해야 합니다");
+        }
+        return authorPostSummaryService.getSummary(author);
+    }
+
+    /**
+     * 게시글 작성 API
+     * - 제목, 작성자명, 비밀번호, 작성 내용을 저장
+     * - 저장된 게시글을 Client로 반환
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 저장하지 않고 처음 응답을 그대로 반환
+     */
+    @PostMapping({"/api/v1/posts", "/board"})
+    public PostResponseDto createPost(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                      @RequestBody PostRequestDto postRequestDto) {
+        if (idempotencyKey == null) {
+            return PostResponseDto.fromEntity(postService.createPost(postRequestDto.toEntity()));
+        }
+        return postIdempotencyStore.execute(idempotencyKey, postRequestDto,
+                () -> PostResponseDto.fromEntity(postService.createPost(postRequestDto.toEntity())));
+    }
+
+    /**
+     * 선택한 게시글 조회 API
+     * - 선택한 게시글의 제목, 작성자명, 작성 날짜, 작성 내용을 조회
+     * - 조회수는 메모리에서만 증가시키고 주기적으로 DB 에 반영
+     * - 같은 id 로 동시에 들어온 요청은 DB 조회 한 번과 응답 객체 하나를 공유 (조회수는 요청마다 기록)
+     */
+    @GetMapping({"/api/v1/posts/{id}", "/board/{id}"})
+    public PostResponseDto getPostById(@PathVariable Long id) {
+        PostResponseDto response = postReads.execute(id, () -> {
+            PostResponseDto loaded = PostResponseDto.fromOptionalEntity(postService.getPostById(id));
+            loaded.setCommentCount(commentService.countByPostId(id));
+            return loaded;
+        });
+        postViewCounter.record(id);
+        return response;
+    }
+
+    // 단건 조회 single-flight 통계 (테스트 / 모니터링용)
+    public SingleFlight<Long, PostResponseDto> getPostReadFlight() {
+        return postReads;
+    }
+
     /**
-     * 게시글 수정
+     * 선택한 게시글 수정 API
+     * - 선택한 게시글의 id 에 해당하는 수정을 처리함
      */
-    public PostResponseDto updatePost(Long id, PostRequestDto postRequestDto) {
-        Post updatedPost = postService.updatePost(id, postRequestDto);
-        return PostResponseDto.fromEntity(updatedPost);
+    @PutMapping("/api/v1/posts/{id}")
+    public PostResponseDto updatePost(@PathVariable Long id, @RequestBody PostRequestDto postRequestDto) {
+        return PostResponseDto.fromEntity(postService.updatePost(id, postRequestDto));
     }
 
     /**
-     * 게시글 삭제
+     * 선택한 게시글 삭제 API
+     * - 선택한 게시글의 id 에 해당하는 게시글 삭제 처리함
+     * - 비밀번호 검증 후 삭제 (예외가 발생하지 않으면 성공)
      */
-    public void deletePost(Long id, PostRequestDto postRequestDto) {
+    @DeleteMapping("/api/v1/posts/{id}")
+    public ResponseEntity<String> deletePost(@PathVariable Long id, @RequestBody PostRequestDto postRequestDto) {
         postService.deletePost(id, postRequestDto);
-        // 성공적으로 삭제되면 void 반환 (예외가 발생하지 않으면 성공)
+        return ResponseEntity.ok("게시글이 성공적으로 삭제되었습니다."+"\n삭제된 게시글 번호 : "+id);
     }
-} 
+}
@@ -0,0 +1,82 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import com.example.studylearnspringposts.dto.PostResponseDto;
+import com.example.studylearnspringposts.service.PostService;
+import com.example.studylearnspringposts.service.PostViewCounter;
+import com.example.studylearnspringposts.service.ReactivePostService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 게시글 API v2 (리액티브)
+ * - /api/v1/posts 와 같은 요청/응답 형식
+ * - 조회는 R2DBC 로 처리하고 서블릿 스레드를 바로 반납 (Flux/Mono 반환 → 비동기 응답)
+ * - 쓰기는 기존 PostService 흐름을 boundedElastic 스케줄러에서 실행
+ */
+@RestController
+@RequestMapping("/api/v2")
+@CrossOrigin(origins = "*")
+public class ReactivePostController {
+
+    private final ReactivePostService reactivePostService;
+    private final PostService postService;
+    private final PostViewCounter postViewCounter;
+
+    public ReactivePostController(ReactivePostService reactivePostService, PostService postService,
+                                  PostViewCounter postViewCounter) {
+        this.reactivePostService = reactivePostService;
+        this.postService = postService;
+        this.postViewCounter = postViewCounter;
+    }
+
+    /**
+     * 전체 게시글 목록 조회 API (작성 날짜 기준 내림차순)
+     */
+    @GetMapping("/posts")
+    public Flux<PostResponseDto> getAllPosts() {
+        return reactivePostService.getAllPosts();
+    }
+
+    /**
+     * 선택한 게시글 조회 API
+     */
+    @GetMapping("/posts/{id}")
+    public Mono<PostResponseDto> getPostById(@PathVariable Long id) {
+        return reactivePostService.getPostById(id)
+                .doOnNext(post -> postViewCounter.record(id));
+    }
+
+    /**
+     * 게시글 작성 API
+     */
+    @PostMapping("/posts")
+    public Mono<PostResponseDto> createPost(@RequestBody PostRequestDto postRequestDto) {
+        return Mono.fromCallable(() -> PostResponseDto.fromEntity(postService.createPost(postRequestDto.toEntity())))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 선택한 게시글 수정 API
+     */
+    @PutMapping("/posts/{id}")
+    public Mono<PostResponseDto> putPostById(@PathVariable Long id, @RequestBody PostRequestDto postRequestDto) {
+        return Mono.fromCallable(() -> PostResponseDto.fromEntity(postService.updatePost(id, postRequestDto)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 선택한 게시글 삭제 API (비밀번호 검증 후 삭제)
+     */
+    @DeleteMapping("/posts/{id}")
+    public Mono<ResponseEntity<String>> deletePostById(@PathVariable Long id, @RequestBody PostRequestDto postRequestDto) {
+        return Mono.fromCallable(() -> {
+                    postService.deletePost(id, postRequestDto);
+                    return ResponseEntity.ok("게시글이 성공적으로 삭제되었습니다." + "\n삭제된 게시글 번호 : " + id);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.studylearnspringposts.domain.attachment.vo;
+
+import com.example.studylearnspringposts.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 첨부파일 (post id → blob 인덱스)
+ * - 파일 내용은 SegmentBlobStore 에 SHA-256 해시로 저장되고, 이 행은 해시와 파일 메타데이터만 보관
+ * - 같은 내용을 여러 게시글에 올려도 blob 은 하나만 저장됨
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "post_attachment", indexes = @Index(name = "idx_post_attachment_post_id_id", columnList = "post_id, id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostAttachment extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "blob_hash", nullable = false, length = 64)
+    private String blobHash;
+
+    @Column(nullable = false)
+    private String filename;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private LocalDateTime uploadDate;
+}
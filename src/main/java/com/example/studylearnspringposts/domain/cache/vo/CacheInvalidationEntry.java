@@ -0,0 +1,40 @@
+package com.example.studylearnspringposts.domain.cache.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 로그 (cache_invalidation) - JdbcInvalidationTransport 가 INSERT / 폴링
+ * - 테이블 생성용 매핑이고 읽기 / 쓰기는 JdbcTemplate 으로만 함
+ * - retention 이 지난 행은 주기적으로 삭제
+ */
+@Getter
+@Entity
+@Table(name = "cache_invalidation", indexes = {
+        @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at")
+})
+@NoArgsConstructor
+public class CacheInvalidationEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    // 줄바꿈으로 구분한 "캐시이름:키" 목록
+    @Column(name = "cache_keys", nullable = false, columnDefinition = "TEXT")
+    private String cacheKeys;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
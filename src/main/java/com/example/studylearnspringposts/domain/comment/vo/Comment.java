@@ -0,0 +1,41 @@
+package com.example.studylearnspringposts.domain.comment.vo;
+
+import com.example.studylearnspringposts.domain.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 댓글
+ * - Post 와 연관관계(@ManyToOne / @OneToMany)를 맺지 않고 post_id 값만 보관
+ *   (목록 렌더링 시 지연 로딩으로 게시글마다 쿼리가 나가는 N+1 을 막기 위해 조회는 항상 명시적인 쿼리로)
+ * - (post_id, id) 인덱스로 게시글별 댓글 keyset 페이지 조회 / 개수 집계
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "post_comment", indexes = @Index(name = "idx_post_comment_post_id_id", columnList = "post_id, id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Comment extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Size(max = 100, message = "작성자명은 100자를 초과할 수 없습니다")
+    @Column(nullable = false)
+    private String author;
+
+    @Size(max = 1000, message = "댓글은 1000자를 초과할 수 없습니다")
+    @Column(nullable = false, length = 1000)
+    private String content;
+
+    @Column(nullable = false)
+    private LocalDateTime writeDate;
+}
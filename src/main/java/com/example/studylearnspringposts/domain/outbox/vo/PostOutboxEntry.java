@@ -0,0 +1,65 @@
+package com.example.studylearnspringposts.domain.outbox.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트 아웃박스 (post_outbox)
+ * - PostService 의 쓰기 트랜잭션 안에서 PostOutbox 가 INSERT, PostOutboxRelay 가 읽어서 전달
+ * - 테이블 생성용 매핑이고 읽기 / 쓰기는 JdbcTemplate 으로만 함
+ */
+@Getter
+@Entity
+@Table(name = "post_outbox", indexes = {
+        @Index(name = "idx_post_outbox_pending", columnList = "delivered_at, id"), // 미전달 행 조회용
+        @Index(name = "idx_post_outbox_claimed_by", columnList = "claimed_by")
+})
+@NoArgsConstructor
+public class PostOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "event_type", nullable = false, length = 16)
+    private String eventType;
+
+    // 변경 직후 PostResponseDto 의 JSON (삭제 이벤트는 null)
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 전달 중인 relay 실행 id, claim-timeout 이 지나면 다른 실행이 다시 가져갈 수 있음
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 전달에 실패한 이벤트를 다시 가져갈 수 있는 시각 (시도 횟수에 따라 뒤로 미룸)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // max-attempts 번 전달에 실패해서 따로 빼둔 시각, 채워진 행은 더 이상 전달하지 않음
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+}
@@ -0,0 +1,41 @@
+package com.example.studylearnspringposts.domain.post.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작성자별 게시글 요약 (author_post_summary) - AuthorPostSummaryService 가 갱신 / 재집계
+ * - 테이블 생성용 매핑이고 읽기 / 쓰기는 JdbcTemplate 으로만 함
+ * - version 이 같을 때만 UPDATE 해서 동시 갱신을 감지 (낙관적 잠금)
+ */
+@Getter
+@Entity
+@Table(name = "author_post_summary")
+@NoArgsConstructor
+public class AuthorPostSummary {
+    @Id
+    @Column(length = 100)
+    private String author;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "last_post_date")
+    private LocalDateTime lastPostDate;
+
+    // 최신 게시글 id 를 최신순으로 쉼표로 이어 붙인 문자열
+    @Column(name = "latest_post_ids", nullable = false, length = 1000)
+    private String latestPostIds;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
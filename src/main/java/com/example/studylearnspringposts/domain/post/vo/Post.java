@@ -4,6 +4,8 @@ import com.example.studylearnspringposts.domain.BaseEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 
 @Getter
@@ -12,6 +14,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_post_deleted_at", columnList = "deleted_at"), // 정리 대상 조회용
+        // 필터 목록 keyset 페이지용 - 작성자별 / 기간별 조회가 전체 테이블 크기와 상관없이 인덱스 범위만 읽음
+        @Index(name = "idx_post_author_write_date", columnList = "author, write_date DESC, id DESC"),
+        @Index(name = "idx_post_write_date", columnList = "write_date DESC, id DESC")
+})
+@SQLDelete(sql = "UPDATE post SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?") // 삭제는 플래그만 갱신 (soft delete)
+@SQLRestriction("deleted_at IS NULL") // 삭제된 게시글은 모든 조회에서 제외
 public class Post extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,10 +38,32 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private String password;
     
+    // 큰 본문을 post_content 로 분리 저장한 경우 빈 문자열 (contentExternal = true)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
+
+    @Column(name = "content_external", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE NOT NULL")
+    private boolean contentExternal;
+
+    // post_content 에서 읽어온 본문, PostContentStore.load 를 거친 경우에만 채워짐
+    @Transient
+    private String externalContent;
     
     @Column(nullable = false)
     private LocalDateTime writeDate;
 
+    // 조회수는 PostViewCounter 가 UPDATE 배치로만 증가시키므로 엔티티 저장 시에는 건드리지 않음
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long views;
+
+    // 삭제 시각 (null 이면 정상 게시글), 실제 행 삭제는 PostPurgeJob 이 나중에 처리
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * 본문 - 분리 저장된 경우 PostContentStore 가 읽어둔 본문을 반환
+     */
+    public String getContent() {
+        return contentExternal ? externalContent : content;
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.studylearnspringposts.domain.post.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 분리 저장된 게시글 본문 (post_content)
+ * - 크기 기준을 넘는 본문만 저장되고, post 행에는 content_external 플래그만 남음
+ * - compressed 는 행마다 기록해서 압축 설정을 바꿔도 기존 본문을 그대로 읽을 수 있음
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "post_content")
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostContent {
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false)
+    private boolean compressed;
+
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Column(nullable = false, columnDefinition = "VARBINARY")
+    private byte[] data;
+}
@@ -0,0 +1,42 @@
+package com.example.studylearnspringposts.domain.post.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC 읽기 전용 게시글 매핑 (post 테이블)
+ * - JPA 엔티티 Post 와 같은 테이블을 읽지만 비밀번호 컬럼은 매핑하지 않음
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("post")
+public class PostRow {
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String author;
+
+    private String content;
+
+    @Column("content_external")
+    private boolean contentExternal;
+
+    @Column("write_date")
+    private LocalDateTime writeDate;
+
+    private Long views;
+
+    @Column("deleted_at")
+    private LocalDateTime deletedAt;
+}
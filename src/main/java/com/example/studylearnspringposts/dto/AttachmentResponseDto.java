@@ -0,0 +1,37 @@
+package com.example.studylearnspringposts.dto;
+
+import com.example.studylearnspringposts.domain.attachment.vo.PostAttachment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttachmentResponseDto {
+    private Long id;
+    private Long postId;
+    private String filename;
+    private String contentType;
+    private long size;
+    private String hash;
+    private LocalDateTime uploadDate;
+
+    public static AttachmentResponseDto fromEntity(PostAttachment attachment) {
+        return AttachmentResponseDto.builder()
+                .id(attachment.getId())
+                .postId(attachment.getPostId())
+                .filename(attachment.getFilename())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .hash(attachment.getBlobHash())
+                .uploadDate(attachment.getUploadDate())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.studylearnspringposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 작성자별 게시글 요약 (삭제되지 않은 게시글 기준)
+ * - latestPostIds: 최신순, 최대 post.author-summary.latest-size 개
+ */
+@Getter
+@AllArgsConstructor
+public class AuthorPostSummaryDto {
+    private final String author;
+    private final long postCount;
+    private final LocalDateTime lastPostDate;
+    private final List<Long> latestPostIds;
+}
@@ -0,0 +1,19 @@
+package com.example.studylearnspringposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 댓글 keyset 페이지
+ * - nextCursor 를 다음 요청의 after 로 넘기면 이어서 조회, 마지막 페이지면 null
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageDto {
+    private List<CommentResponseDto> comments;
+    private Long nextCursor;
+}
@@ -0,0 +1,33 @@
+package com.example.studylearnspringposts.dto;
+
+import com.example.studylearnspringposts.domain.comment.vo.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentResponseDto {
+    private Long id;
+    private Long postId;
+    private String author;
+    private String content;
+    private LocalDateTime writeDate;
+
+    public static CommentResponseDto fromEntity(Comment comment) {
+        return CommentResponseDto.builder()
+                .id(comment.getId())
+                .postId(comment.getPostId())
+                .author(comment.getAuthor())
+                .content(comment.getContent())
+                .writeDate(comment.getWriteDate())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.studylearnspringposts.dto;
+
+import com.example.studylearnspringposts.util.LatencyHistogram;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지연시간 백분위 (마이크로초)
+ */
+@Getter
+@AllArgsConstructor
+public class LatencySnapshotDto {
+    private final long count;
+    private final long meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long p999Micros;
+    private final long maxMicros;
+
+    public static LatencySnapshotDto from(LatencyHistogram.Snapshot snapshot) {
+        return new LatencySnapshotDto(
+                snapshot.getCount(),
+                snapshot.getMeanNanos() / 1_000,
+                snapshot.getValueAtPercentile(50) / 1_000,
+                snapshot.getValueAtPercentile(90) / 1_000,
+                snapshot.getValueAtPercentile(99) / 1_000,
+                snapshot.getValueAtPercentile(99.9) / 1_000,
+                snapshot.getMaxNanos() / 1_000);
+    }
+}
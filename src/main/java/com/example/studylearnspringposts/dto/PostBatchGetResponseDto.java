@@ -0,0 +1,42 @@
+package com.example.studylearnspringposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 조회 응답
+ * - 요청한 id 순서 그대로 결과를 담음
+ * - 존재하지 않는 id 는 found=false, post=null 로 표시
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostBatchGetResponseDto {
+    private List<Item> posts;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long id;
+        private boolean found;
+        private PostResponseDto post;
+
+        public static Item found(PostResponseDto post) {
+            return new Item(post.getId(), true, post);
+        }
+
+        public static Item notFound(Long id) {
+            return new Item(id, false, null);
+        }
+    }
+}
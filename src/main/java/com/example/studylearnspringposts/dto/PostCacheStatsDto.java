@@ -0,0 +1,30 @@
+package com.example.studylearnspringposts.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시글 캐시 계층별 통계
+ * - l1: 힙 LRU (개수 기준), l2: off-heap 슬랩 (바이트 기준, 꺼져 있으면 0)
+ * - usedBytes 는 저장된 값 합계, allocatedBytes 는 실제로 잡고 있는 direct 메모리
+ */
+@Getter
+@Builder
+public class PostCacheStatsDto {
+    private final boolean enabled;
+
+    private final int l1Size;
+    private final long l1Hits;
+    private final long l1Misses;
+    private final double l1HitRate;
+    private final int l1MaxContentLength;
+
+    private final int l2Size;
+    private final long l2Hits;
+    private final long l2Misses;
+    private final double l2HitRate;
+    private final long l2Evictions;
+    private final long l2UsedBytes;
+    private final long l2AllocatedBytes;
+    private final long l2CapacityBytes;
+}
@@ -0,0 +1,19 @@
+package com.example.studylearnspringposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 keyset 페이지
+ * - nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회, 마지막 페이지면 null
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostPageDto {
+    private List<PostResponseDto> posts;
+    private String nextCursor;
+}
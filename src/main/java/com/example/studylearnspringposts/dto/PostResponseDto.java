@@ -22,6 +22,8 @@ public class PostResponseDto {
     private String author;
     private String content;
     private LocalDateTime writeDate;
+    private Long views;
+    private Long commentCount; // 목록 / 단건 조회에서만 채움
 
     public static PostResponseDto fromEntity(Post post) {
         return PostResponseDto.builder()
@@ -30,6 +32,7 @@ public class PostResponseDto {
                 .author(post.getAuthor())
                 .content(post.getContent())
                 .writeDate(post.getWriteDate())
+                .views(post.getViews() != null ? post.getViews() : 0L)
                 .build();
     }
 
@@ -0,0 +1,14 @@
+package com.example.studylearnspringposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 조회수 순위 항목
+ */
+@Getter
+@AllArgsConstructor
+public class PostViewCountDto {
+    private final Long id;
+    private final long views;
+}
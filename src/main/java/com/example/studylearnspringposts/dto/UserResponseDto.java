@@ -18,6 +18,7 @@ public class UserResponseDto {
     private String role;
     private String message;
     private String token;
+    private String refreshToken;
     
     public static UserResponseDto fromEntity(User user) {
         return UserResponseDto.builder()
@@ -42,4 +43,15 @@ public class UserResponseDto {
                 .message(message)
                 .build();
     }
+
+    public static UserResponseDto successWithTokens(String username, String role, String token, String refreshToken,
+                                                    String message) {
+        return UserResponseDto.builder()
+                .username(username)
+                .role(role)
+                .token(token)
+                .refreshToken(refreshToken)
+                .message(message)
+                .build();
+    }
 } 
\ No newline at end of file
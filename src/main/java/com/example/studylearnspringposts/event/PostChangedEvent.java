@@ -0,0 +1,30 @@
+package com.example.studylearnspringposts.event;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.PostResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 생성 / 수정 / 삭제 시 PostService 가 발행하는 이벤트
+ * - post 는 변경 직후의 스냅샷 (삭제 이벤트는 null)
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    private final PostEventType type;
+    private final Long postId;
+    private final PostResponseDto post;
+
+    public static PostChangedEvent created(Post post) {
+        return new PostChangedEvent(PostEventType.CREATED, post.getId(), PostResponseDto.fromEntity(post));
+    }
+
+    public static PostChangedEvent updated(Post post) {
+        return new PostChangedEvent(PostEventType.UPDATED, post.getId(), PostResponseDto.fromEntity(post));
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(PostEventType.DELETED, postId, null);
+    }
+}
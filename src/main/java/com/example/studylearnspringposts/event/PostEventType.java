@@ -0,0 +1,7 @@
+package com.example.studylearnspringposts.event;
+
+public enum PostEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,128 @@
+package com.example.studylearnspringposts.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오류 응답 본문(JSON) 작성
+ * - 상태 / error / 경로가 같은 응답은 message, timestamp 앞뒤 바이트를 미리 만들어두고 두 값만 끼워 넣음
+ *   (요청마다 Map 생성 + 전체 본문 Jackson 직렬화를 하지 않음)
+ * - message 는 id 가 들어가 요청마다 다르므로 템플릿 키에 넣지 않고 문자열만 JSON 이스케이프
+ * - timestamp 는 Jackson 과 같은 ISO_LOCAL_DATE_TIME 형식 - 초까지는 초가 바뀔 때만 다시 만들고 소수부만 요청마다 붙임
+ * - 미리 만든 본문은 MAX_TEMPLATES 개까지만 보관
+ * - 본문 형식은 기존과 같음: timestamp, status, error, message, path
+ */
+@Component
+public class ErrorResponseWriter {
+    static final int MAX_TEMPLATES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private volatile Timestamp timestamp = new Timestamp(Long.MIN_VALUE, ZoneOffset.UTC, new byte[0]);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ResponseEntity<byte[]> write(HttpStatus status, String error, String message, String path) {
+        String key = status.value() + "\n" + error + "\n" + path;
+        Template template = templates.get(key);
+        if (template == null) {
+            template = template(status, error, path);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.putIfAbsent(key, template);
+            }
+        }
+        byte[] escaped = json(message);
+        byte[] now = timestamp();
+        byte[] body = new byte[template.prefix().length + escaped.length + template.middle().length
+                + now.length + template.suffix().length];
+        int offset = copy(template.prefix(), body, 0);
+        offset = copy(escaped, body, offset);
+        offset = copy(template.middle(), body, offset);
+        offset = copy(now, body, offset);
+        copy(template.suffix(), body, offset);
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 보관 중인 템플릿 수 (테스트용)
+    int templateCount() {
+        return templates.size();
+    }
+
+    private Template template(HttpStatus status, String error, String path) {
+        String prefix = "{\"status\":" + status.value()
+                + ",\"error\":" + new String(json(error), StandardCharsets.UTF_8)
+                + ",\"message\":";
+        String middle = ",\"path\":" + new String(json(path), StandardCharsets.UTF_8)
+                + ",\"timestamp\":\"";
+        return new Template(prefix.getBytes(StandardCharsets.UTF_8), middle.getBytes(StandardCharsets.UTF_8),
+                "\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] json(String value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int copy(byte[] source, byte[] target, int offset) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    private byte[] timestamp() {
+        return timestamp(Instant.now(), ZoneId.systemDefault());
+    }
+
+    // LocalDateTime.now() 를 Jackson 이 쓰는 것과 같은 ISO_LOCAL_DATE_TIME 형식으로 (초가 0 이어도 생략하지 않음)
+    byte[] timestamp(Instant now, ZoneId zone) {
+        Timestamp current = timestamp;
+        if (current.epochSecond() != now.getEpochSecond() || !current.zone().equals(zone)) {
+            String seconds = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                    LocalDateTime.ofInstant(Instant.ofEpochSecond(now.getEpochSecond()), zone));
+            current = new Timestamp(now.getEpochSecond(), zone, seconds.getBytes(StandardCharsets.US_ASCII));
+            timestamp = current;
+        }
+        int nanos = now.getNano();
+        if (nanos == 0) {
+            return current.bytes();
+        }
+        // 소수부는 ISO_LOCAL_DATE_TIME 처럼 끝의 0 을 뺀 자릿수만
+        int digits = 9;
+        while (nanos % 10 == 0) {
+            nanos /= 10;
+            digits--;
+        }
+        byte[] bytes = Arrays.copyOf(current.bytes(), current.bytes().length + 1 + digits);
+        int offset = bytes.length;
+        for (int i = 0; i < digits; i++) {
+            bytes[--offset] = (byte) ('0' + nanos % 10);
+            nanos /= 10;
+        }
+        bytes[--offset] = '.';
+        return bytes;
+    }
+
+    private record Template(byte[] prefix, byte[] middle, byte[] suffix) {
+    }
+
+    private record Timestamp(long epochSecond, ZoneId zone, byte[] bytes) {
+    }
+}
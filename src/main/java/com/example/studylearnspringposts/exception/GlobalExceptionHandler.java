@@ -13,28 +13,26 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public GlobalExceptionHandler(ErrorResponseWriter errorResponseWriter) {
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
+    // 404 / 400 / 409 는 봇의 임의 id 조회 등으로 자주 발생하므로 미리 만들어둔 본문으로 응답
     @ExceptionHandler(PostNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handlePostNotFoundException(PostNotFoundException ex) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
-        errorResponse.put("error", "Not Found");
-        errorResponse.put("message", ex.getMessage());
-        errorResponse.put("path", "/api/v1/posts");
-        
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    public ResponseEntity<byte[]> handlePostNotFoundException(PostNotFoundException ex) {
+        return errorResponseWriter.write(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), "/api/v1/posts");
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<byte[]> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException ex) {
+        return errorResponseWriter.write(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), "/api/v1/posts");
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(IllegalArgumentException ex) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
-        errorResponse.put("error", "Bad Request");
-        errorResponse.put("message", ex.getMessage());
-        errorResponse.put("path", "/api/v1/posts");
-        
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    public ResponseEntity<byte[]> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return errorResponseWriter.write(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), "/api/v1/posts");
     }
 
     /**
@@ -0,0 +1,10 @@
+package com.example.studylearnspringposts.exception;
+
+/**
+ * 같은 Idempotency-Key 를 다른 요청 본문으로 재사용했거나, 먼저 온 요청이 제한 시간 안에 끝나지 않은 경우
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.studylearnspringposts.exception;
+
+/**
+ * 게시글 수정 / 삭제 비밀번호 불일치 (400)
+ * - 기존 처리와 같도록 IllegalArgumentException 을 상속하고, 스택 트레이스는 만들지 않음
+ */
+public class InvalidPostPasswordException extends IllegalArgumentException {
+    public InvalidPostPasswordException() {
+        super("비밀번호가 일치하지 않습니다");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
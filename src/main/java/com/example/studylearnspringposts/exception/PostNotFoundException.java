@@ -1,11 +1,15 @@
 package com.example.studylearnspringposts.exception;
 
+/**
+ * 게시글 없음 (404)
+ * - 없는 id 조회는 흔한 정상 흐름이라 스택 트레이스를 만들지 않음 (예외 생성 비용의 대부분)
+ */
 public class PostNotFoundException extends RuntimeException {
     public PostNotFoundException(Long id) {
-        super("게시글을 찾을 수 없습니다. ID: " + id);
+        this("게시글을 찾을 수 없습니다. ID: " + id);
     }
     
     public PostNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-} 
\ No newline at end of file
+}
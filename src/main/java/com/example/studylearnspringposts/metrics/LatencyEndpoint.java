@@ -0,0 +1,54 @@
+package com.example.studylearnspringposts.metrics;
+
+import com.example.studylearnspringposts.dto.LatencySnapshotDto;
+import com.example.studylearnspringposts.util.LatencyHistogram;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/latency - 계층 / 엔드포인트별 지연시간 백분위
+ * - GET /actuator/latency: 전체 ("layer:name" → 백분위)
+ * - GET /actuator/latency/{layer}: 한 계층만 (http, controller, service, store, json)
+ * - DELETE /actuator/latency: 누적값 초기화 (측정 구간을 새로 시작할 때)
+ */
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    private final LatencyRecorder latencyRecorder;
+
+    public LatencyEndpoint(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @ReadOperation
+    public Map<String, LatencySnapshotDto> latency() {
+        return toDtos(null);
+    }
+
+    @ReadOperation
+    public Map<String, LatencySnapshotDto> latencyOfLayer(@Selector String layer) {
+        return toDtos(layer + ":");
+    }
+
+    @DeleteOperation
+    public void reset() {
+        latencyRecorder.reset();
+    }
+
+    private Map<String, LatencySnapshotDto> toDtos(String prefix) {
+        Map<String, LatencySnapshotDto> result = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : latencyRecorder.snapshots().entrySet()) {
+            if (prefix == null || entry.getKey().startsWith(prefix)) {
+                result.put(entry.getKey(), LatencySnapshotDto.from(entry.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.studylearnspringposts.metrics;
+
+import com.example.studylearnspringposts.util.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계층(layer) / 이름별 지연시간 히스토그램 모음
+ * - layer: http (엔드포인트 전체), controller, service, store (PostStore = JPA 엔진이면 Hibernate), json (응답 직렬화)
+ * - 계층은 중첩되어 측정됨 (http ⊃ controller ⊃ service ⊃ store), json 은 controller 반환 이후
+ * - 호출 경로에서는 histogram() 으로 받은 히스토그램을 캐시해두고 record 만 호출
+ */
+@Component
+public class LatencyRecorder {
+    public static final String HTTP = "http";
+    public static final String CONTROLLER = "controller";
+    public static final String SERVICE = "service";
+    public static final String STORE = "store";
+    public static final String JSON = "json";
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyHistogram histogram(String layer, String name) {
+        String key = layer + ":" + name;
+        LatencyHistogram histogram = histograms.get(key);
+        return histogram != null ? histogram : histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    /**
+     * "layer:name" → 스냅샷 (키 순 정렬)
+     */
+    public Map<String, LatencyHistogram.Snapshot> snapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        histograms.forEach((key, histogram) -> snapshots.put(key, histogram.snapshot()));
+        return snapshots;
+    }
+
+    public void reset() {
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+}
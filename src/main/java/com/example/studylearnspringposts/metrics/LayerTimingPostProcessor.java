@@ -0,0 +1,104 @@
+package com.example.studylearnspringposts.metrics;
+
+import com.example.studylearnspringposts.repository.PostStore;
+import com.example.studylearnspringposts.util.LatencyHistogram;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.reactivestreams.Publisher;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * controller / service / store 계층의 public 메서드 실행 시간을 기록하는 프록시 등록
+ * - @RestController → controller, @Service → service, PostStore 구현 → store
+ * - 이미 @Transactional 프록시가 있는 빈은 그 프록시 맨 앞에 추가 (트랜잭션 커밋 / flush 시간까지 포함)
+ * - 리액티브 반환 타입은 조립 시간만 측정되므로 제외
+ * - 호출마다 nanoTime 2번 + 히스토그램 기록 1번, 메서드별 히스토그램은 처음 호출 때 한 번만 조회
+ */
+@Component
+public class LayerTimingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public LayerTimingPostProcessor(LatencyRecorder latencyRecorder, SpanTracer spanTracer,
+                                    @Value("${monitoring.latency.enabled:true}") boolean enabled) {
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+        // advisor 가 null 이면 상위 클래스가 빈을 그대로 반환
+        this.advisor = enabled
+                ? new DefaultPointcutAdvisor(new LayerPointcut(), new TimingInterceptor(latencyRecorder, spanTracer))
+                : null;
+    }
+
+    static String layerOf(Class<?> type) {
+        if (AnnotatedElementUtils.hasAnnotation(type, RestController.class)) {
+            return LatencyRecorder.CONTROLLER;
+        }
+        if (AnnotatedElementUtils.hasAnnotation(type, Service.class)) {
+            return LatencyRecorder.SERVICE;
+        }
+        if (PostStore.class.isAssignableFrom(type)) {
+            return LatencyRecorder.STORE;
+        }
+        return null;
+    }
+
+    private static class LayerPointcut extends StaticMethodMatcherPointcut {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return layerOf(targetClass) != null
+                    && Modifier.isPublic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class
+                    && !Publisher.class.isAssignableFrom(method.getReturnType());
+        }
+    }
+
+    static class TimingInterceptor implements MethodInterceptor {
+        private final LatencyRecorder latencyRecorder;
+        private final SpanTracer spanTracer;
+        private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+        TimingInterceptor(LatencyRecorder latencyRecorder, SpanTracer spanTracer) {
+            this.latencyRecorder = latencyRecorder;
+            this.spanTracer = spanTracer;
+        }
+
+        private record Timer(String layer, String name, LatencyHistogram histogram) {
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Timer timer = timers.get(invocation.getMethod());
+            if (timer == null) {
+                timer = timers.computeIfAbsent(invocation.getMethod(), method -> newTimer(invocation, method));
+            }
+            SpanTracer.Span span = spanTracer.start(timer.layer(), timer.name());
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                timer.histogram().record(System.nanoTime() - start);
+                spanTracer.finish(span);
+            }
+        }
+
+        private Timer newTimer(MethodInvocation invocation, Method method) {
+            Class<?> targetClass = invocation.getThis() != null
+                    ? ClassUtils.getUserClass(invocation.getThis())
+                    : method.getDeclaringClass();
+            String layer = layerOf(targetClass);
+            String name = targetClass.getSimpleName() + "." + method.getName();
+            return new Timer(layer, name, latencyRecorder.histogram(layer, name));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.studylearnspringposts.metrics;
+
+import com.example.studylearnspringposts.dto.PostCacheStatsDto;
+import com.example.studylearnspringposts.service.PostCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/postcache - 게시글 캐시 L1(힙) / L2(off-heap) 적중률과 메모리 사용량
+ */
+@Component
+@Endpoint(id = "postcache")
+public class PostCacheEndpoint {
+
+    private final PostCache postCache;
+
+    public PostCacheEndpoint(PostCache postCache) {
+        this.postCache = postCache;
+    }
+
+    @ReadOperation
+    public PostCacheStatsDto stats() {
+        return postCache.getStats();
+    }
+}
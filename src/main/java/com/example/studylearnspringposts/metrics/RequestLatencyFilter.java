@@ -0,0 +1,61 @@
+package com.example.studylearnspringposts.metrics;
+
+import com.example.studylearnspringposts.util.LatencyHistogram;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 엔드포인트별 전체 처리 시간 (http 계층)
+ * - 가장 바깥 필터로 등록되어 보안 / 압축 필터와 응답 직렬화까지 포함
+ * - 엔드포인트 이름은 매핑된 경로 패턴 (GET /api/v1/posts/{id}), 매핑되지 않은 요청은 unmatched 로 묶음
+ * - SSE 처럼 비동기로 이어지는 요청은 연결 유지 시간이 섞이지 않도록 기록하지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLatencyFilter extends OncePerRequestFilter {
+
+    private final LatencyRecorder latencyRecorder;
+    private final SpanTracer spanTracer;
+    private final boolean enabled;
+
+    public RequestLatencyFilter(LatencyRecorder latencyRecorder, SpanTracer spanTracer,
+                                @Value("${monitoring.latency.enabled:true}") boolean enabled) {
+        this.latencyRecorder = latencyRecorder;
+        this.spanTracer = spanTracer;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SpanTracer.Span span = spanTracer.startTrace(request.getMethod() + " " + request.getRequestURI());
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            spanTracer.finish(span);
+            if (!request.isAsyncStarted()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String endpoint = pattern != null ? request.getMethod() + " " + pattern : "unmatched";
+                LatencyHistogram histogram = latencyRecorder.histogram(LatencyRecorder.HTTP, endpoint);
+                histogram.record(elapsed);
+            }
+        }
+    }
+}
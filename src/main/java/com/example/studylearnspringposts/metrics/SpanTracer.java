@@ -0,0 +1,220 @@
+package com.example.studylearnspringposts.metrics;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 단위 트레이싱 span (선택 기능, 기본 꺼짐)
+ * - 요청 진입 시 sample-rate 확률로 trace 를 시작하고, 같은 스레드의 하위 계층 span 은 ThreadLocal 로 부모를 연결
+ * - exporter=memory: 최근 span 을 메모리 링 버퍼에 보관 (/actuator/traces 로 조회)
+ * - exporter=file: 별도 스레드가 JSON Lines 로 파일에 append (큐가 가득 차면 버리고 개수만 셈)
+ * - 꺼져 있거나 샘플링되지 않은 요청은 start 가 null 을 반환하고 아무것도 기록하지 않음
+ */
+@Component
+public class SpanTracer {
+    private static final Logger log = LoggerFactory.getLogger(SpanTracer.class);
+
+    public static final String MEMORY = "memory";
+    public static final String FILE = "file";
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final boolean fileExport;
+    private final int memoryCapacity;
+
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+    private final Deque<SpanRecord> recent = new ArrayDeque<>();
+    private final BlockingQueue<SpanRecord> fileQueue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread fileWriter;
+
+    public SpanTracer(@Value("${monitoring.tracing.enabled:false}") boolean enabled,
+                      @Value("${monitoring.tracing.sample-rate:1.0}") double sampleRate,
+                      @Value("${monitoring.tracing.exporter:memory}") String exporter,
+                      @Value("${monitoring.tracing.memory-capacity:1000}") int memoryCapacity,
+                      @Value("${monitoring.tracing.file:./data/traces.jsonl}") String file) throws IOException {
+        if (!MEMORY.equals(exporter) && !FILE.equals(exporter)) {
+            throw new IllegalArgumentException("지원하지 않는 span exporter 입니다: " + exporter);
+        }
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.fileExport = FILE.equals(exporter);
+        this.memoryCapacity = memoryCapacity;
+        if (enabled && fileExport) {
+            this.fileQueue = new ArrayBlockingQueue<>(10_000);
+            this.fileWriter = startFileWriter(Paths.get(file));
+        } else {
+            this.fileQueue = null;
+            this.fileWriter = null;
+        }
+    }
+
+    /**
+     * 종료된 span
+     * @param parentId 루트 span 이면 0
+     */
+    public record SpanRecord(String traceId, long spanId, long parentId, String layer, String name,
+                             long startEpochMillis, long durationNanos) {
+    }
+
+    /**
+     * 진행 중인 span (start 한 스레드에서만 사용)
+     */
+    public static final class Span {
+        private final String traceId;
+        private final long spanId;
+        private final Span parent;
+        private final String layer;
+        private final String name;
+        private final long startEpochMillis = System.currentTimeMillis();
+        private final long startNanos = System.nanoTime();
+
+        private Span(String traceId, Span parent, String layer, String name) {
+            this.traceId = traceId;
+            this.spanId = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+            this.parent = parent;
+            this.layer = layer;
+            this.name = name;
+        }
+    }
+
+    /**
+     * 요청 진입 시 trace 시작 (샘플링되지 않으면 null)
+     */
+    public Span startTrace(String name) {
+        if (!enabled || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return null;
+        }
+        String traceId = Long.toHexString(ThreadLocalRandom.current().nextLong())
+                + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        Span span = new Span(traceId, null, LatencyRecorder.HTTP, name);
+        current.set(span);
+        return span;
+    }
+
+    /**
+     * 진행 중인 trace 가 있을 때만 하위 span 시작 (없으면 null)
+     */
+    public Span start(String layer, String name) {
+        if (!enabled) {
+            return null;
+        }
+        Span parent = current.get();
+        if (parent == null) {
+            return null;
+        }
+        Span span = new Span(parent.traceId, parent, layer, name);
+        current.set(span);
+        return span;
+    }
+
+    public void finish(Span span) {
+        if (span == null) {
+            return;
+        }
+        long duration = System.nanoTime() - span.startNanos;
+        if (span.parent != null) {
+            current.set(span.parent);
+        } else {
+            current.remove();
+        }
+        export(new SpanRecord(span.traceId, span.spanId, span.parent != null ? span.parent.spanId : 0,
+                span.layer, span.name, span.startEpochMillis, duration));
+    }
+
+    /**
+     * 메모리 exporter 에 남아 있는 최근 span (오래된 순)
+     */
+    public List<SpanRecord> recentSpans() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void export(SpanRecord record) {
+        if (fileExport) {
+            if (!fileQueue.offer(record)) {
+                dropped.incrementAndGet();
+            }
+            return;
+        }
+        synchronized (recent) {
+            if (recent.size() >= memoryCapacity) {
+                recent.pollFirst();
+                dropped.incrementAndGet();
+            }
+            recent.addLast(record);
+        }
+    }
+
+    private Thread startFileWriter(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        Thread thread = new Thread(() -> {
+            try (writer) {
+                while (!Thread.currentThread().isInterrupted()) {
+                    SpanRecord record = fileQueue.poll(1, TimeUnit.SECONDS);
+                    if (record == null) {
+                        writer.flush();
+                        continue;
+                    }
+                    writer.write(toJson(record));
+                    writer.newLine();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                log.warn("span 파일 기록 실패 - 이후 span 은 버려짐", e);
+            }
+        }, "span-file-exporter");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static String toJson(SpanRecord record) {
+        return "{\"traceId\":\"" + record.traceId() + "\",\"spanId\":" + record.spanId()
+                + ",\"parentId\":" + record.parentId() + ",\"layer\":\"" + record.layer()
+                + "\",\"name\":\"" + record.name().replace("\\", "\\\\").replace("\"", "\\\"")
+                + "\",\"start\":" + record.startEpochMillis() + ",\"durationNanos\":" + record.durationNanos() + "}";
+    }
+
+    @PreDestroy
+    void close() {
+        if (fileWriter != null) {
+            fileWriter.interrupt();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.studylearnspringposts.metrics;
+
+import com.example.studylearnspringposts.util.LatencyHistogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * JSON 응답 직렬화 시간 (json 계층)
+ * - 기본 Jackson 컨버터를 같은 ObjectMapper 를 쓰는 측정용 컨버터로 교체
+ */
+@Configuration
+public class TimedJsonConverterConfig implements WebMvcConfigurer {
+
+    private final LatencyRecorder latencyRecorder;
+    private final SpanTracer spanTracer;
+    private final boolean enabled;
+
+    public TimedJsonConverterConfig(LatencyRecorder latencyRecorder, SpanTracer spanTracer,
+                                    @Value("${monitoring.latency.enabled:true}") boolean enabled) {
+        this.latencyRecorder = latencyRecorder;
+        this.spanTracer = spanTracer;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson
+                    && !(jackson instanceof TimedJacksonConverter)) {
+                converters.set(i, new TimedJacksonConverter(jackson.getObjectMapper(),
+                        latencyRecorder.histogram(LatencyRecorder.JSON, "write"), spanTracer));
+            }
+        }
+    }
+
+    static class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+        private final LatencyHistogram histogram;
+        private final SpanTracer spanTracer;
+
+        TimedJacksonConverter(ObjectMapper objectMapper, LatencyHistogram histogram, SpanTracer spanTracer) {
+            super(objectMapper);
+            this.histogram = histogram;
+            this.spanTracer = spanTracer;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            SpanTracer.Span span = spanTracer.start(LatencyRecorder.JSON, "write");
+            long start = System.nanoTime();
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                histogram.record(System.nanoTime() - start);
+                spanTracer.finish(span);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.studylearnspringposts.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/traces - 메모리 exporter 에 남아 있는 최근 span
+ * - GET /actuator/traces: 최근 span 전체 (오래된 순)
+ * - GET /actuator/traces/{traceId}: 요청 하나의 계층별 span
+ */
+@Component
+@Endpoint(id = "traces")
+public class TraceEndpoint {
+
+    private final SpanTracer spanTracer;
+
+    public TraceEndpoint(SpanTracer spanTracer) {
+        this.spanTracer = spanTracer;
+    }
+
+    @ReadOperation
+    public List<SpanTracer.SpanRecord> recent() {
+        return spanTracer.recentSpans();
+    }
+
+    @ReadOperation
+    public List<SpanTracer.SpanRecord> trace(@Selector String traceId) {
+        return spanTracer.recentSpans().stream()
+                .filter(span -> span.traceId().equals(traceId))
+                .toList();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.studylearnspringposts.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기본 싱크 - 전달된 이벤트를 DEBUG 로그로만 남김
+ */
+@Component
+public class LoggingPostEventSink implements PostEventSink {
+    private static final Logger log = LoggerFactory.getLogger(LoggingPostEventSink.class);
+
+    @Override
+    public String name() {
+        return "logging";
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        if (log.isDebugEnabled()) {
+            for (OutboxEvent event : events) {
+                log.debug("게시글 이벤트 전달 - #{} {} post={}", event.id(), event.type(), event.postId());
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.studylearnspringposts.outbox;
+
+import com.example.studylearnspringposts.event.PostEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 전달되는 아웃박스 이벤트
+ * @param id      아웃박스 행 id (게시글별 변경 순서와 같음, 싱크의 중복 제거 키로 사용)
+ * @param payload 변경 직후 게시글 JSON (삭제 이벤트는 null)
+ */
+public record OutboxEvent(long id, Long postId, PostEventType type, String payload, LocalDateTime createdAt) {
+}
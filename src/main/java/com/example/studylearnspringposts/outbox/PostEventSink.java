@@ -0,0 +1,15 @@
+package com.example.studylearnspringposts.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 받는 곳 (검색 색인, 피드 생성 등) - 빈으로 등록하면 PostOutboxRelay 가 모두 호출
+ * - 이벤트는 id 순서로 묶어서 전달
+ * - 예외를 던지면 묶음 전체를 나중에 다시 전달하므로 (at-least-once) 구현은 id 기준으로 멱등이어야 함
+ */
+public interface PostEventSink {
+
+    String name();
+
+    void deliver(List<OutboxEvent> events);
+}
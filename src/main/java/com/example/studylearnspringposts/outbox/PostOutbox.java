@@ -0,0 +1,48 @@
+package com.example.studylearnspringposts.outbox;
+
+import com.example.studylearnspringposts.event.PostChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 기록
+ * - 호출한 쪽의 트랜잭션 안에서 INSERT 한 번만 함 (게시글 변경과 같이 커밋 / 롤백)
+ * - 외부 전달은 PostOutboxRelay 가 요청 경로 밖에서 처리
+ */
+@Component
+public class PostOutbox {
+    private static final String INSERT_SQL =
+            "INSERT INTO post_outbox (post_id, event_type, payload, created_at, attempts) VALUES (?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PostOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY) // 게시글 변경 트랜잭션 밖에서 기록하면 원자성이 깨짐
+    public void append(PostChangedEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.getPostId(), event.getType().name(), payload(event),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private String payload(PostChangedEvent event) {
+        if (event.getPost() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(event.getPost());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.studylearnspringposts.outbox;
+
+import com.example.studylearnspringposts.event.PostEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아웃박스 전달 작업
+ * - poll-interval-ms 마다 미전달 행을 batch-size 개까지 claim 해서 모든 싱크에 id 순서로 전달
+ * - claim 은 UPDATE ... SET claimed_by = 실행 id 한 번으로 처리 - 여러 인스턴스가 동시에 돌아도
+ *   같은 행을 두 번 가져가지 않음 (SELECT ... FOR UPDATE SKIP LOCKED 대신 DB 종류와 상관없이 쓸 수 있는 방식)
+ * - 전달에 성공하면 delivered_at 을 한 번의 UPDATE 로 채움
+ * - 묶음 전달이 실패하면 이벤트를 하나씩 다시 전달해서 실패한 이벤트만 골라냄 (나머지는 그대로 전달 완료)
+ *   - 실패한 이벤트는 시도 횟수에 따라 retry-backoff-ms 부터 두 배씩 (최대 retry-max-backoff-ms) 뒤로 미뤄서 재시도
+ *   - max-attempts 번 실패하면 failed_at 을 채워서 더 이상 가져가지 않음 (ERROR 로그, 원인 해결 후 failed_at 을 비우면 다시 전달)
+ *   - 실패한 이벤트를 재시도하는 동안 뒤의 이벤트가 먼저 전달될 수 있음
+ * - 전달 도중 인스턴스가 죽으면 claim-timeout 이 지난 뒤 다른 실행이 다시 가져감 (중복 전달 가능)
+ * - 전달된 행은 retention-hours 가 지나면 삭제
+ */
+@Component
+public class PostOutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(PostOutboxRelay.class);
+
+    private static final String CLAIM_SQL = "UPDATE post_outbox SET claimed_by = ?, claimed_at = ?, "
+            + "attempts = attempts + 1 WHERE id IN (SELECT id FROM post_outbox WHERE delivered_at IS NULL "
+            + "AND failed_at IS NULL AND (next_attempt_at IS NULL OR next_attempt_at <= ?) "
+            + "AND (claimed_at IS NULL OR claimed_at < ?) ORDER BY id LIMIT ?) "
+            + "AND delivered_at IS NULL AND (claimed_at IS NULL OR claimed_at < ?)";
+    private static final String CLAIMED_SQL = "SELECT id, post_id, event_type, payload, created_at, attempts "
+            + "FROM post_outbox WHERE claimed_by = ? AND delivered_at IS NULL ORDER BY id";
+    private static final String DELIVERED_SQL =
+            "UPDATE post_outbox SET delivered_at = ?, claimed_by = NULL WHERE claimed_by = ?";
+    private static final String RETRY_SQL = "UPDATE post_outbox SET claimed_by = NULL, claimed_at = NULL, "
+            + "next_attempt_at = ? WHERE id = ? AND claimed_by = ?";
+    private static final String FAILED_SQL =
+            "UPDATE post_outbox SET claimed_by = NULL, failed_at = ? WHERE id = ? AND claimed_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PostEventSink> sinks;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int claimTimeoutSeconds;
+    private final int retentionHours;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long retryMaxBackoffMillis;
+
+    public PostOutboxRelay(JdbcTemplate jdbcTemplate, List<PostEventSink> sinks,
+                           @Value("${post.outbox.relay-enabled:true}") boolean enabled,
+                           @Value("${post.outbox.batch-size:200}") int batchSize,
+                           @Value("${post.outbox.claim-timeout-seconds:60}") int claimTimeoutSeconds,
+                           @Value("${post.outbox.retention-hours:24}") int retentionHours,
+                           @Value("${post.outbox.max-attempts:10}") int maxAttempts,
+                           @Value("${post.outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+                           @Value("${post.outbox.retry-max-backoff-ms:600000}") long retryMaxBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sinks = sinks;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.claimTimeoutSeconds = claimTimeoutSeconds;
+        this.retentionHours = retentionHours;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.retryMaxBackoffMillis = retryMaxBackoffMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${post.outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 묶음 전체가 전달됐으면 밀린 이벤트가 더 있을 수 있으므로 바로 이어서 처리
+            int delivered;
+            do {
+                delivered = relay();
+            } while (delivered == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("아웃박스 전달 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 한 묶음 claim → 전달 → 전달 완료 표시 (실패한 이벤트는 재시도 예약 또는 실패 처리)
+     * @return 이번에 전달한 이벤트 수
+     */
+    public int relay() {
+        String claimId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp staleBefore = Timestamp.valueOf(now.minusSeconds(claimTimeoutSeconds));
+        int claimed = jdbcTemplate.update(CLAIM_SQL, claimId, Timestamp.valueOf(now), Timestamp.valueOf(now),
+                staleBefore, batchSize, staleBefore);
+        if (claimed == 0) {
+            return 0;
+        }
+
+        Map<Long, Integer> attempts = new HashMap<>();
+        List<OutboxEvent> events = jdbcTemplate.query(CLAIMED_SQL, (rs, rowNum) -> {
+            attempts.put(rs.getLong("id"), rs.getInt("attempts"));
+            return new OutboxEvent(
+                    rs.getLong("id"),
+                    rs.getLong("post_id"),
+                    PostEventType.valueOf(rs.getString("event_type")),
+                    rs.getString("payload"),
+                    rs.getTimestamp("created_at").toLocalDateTime());
+        }, claimId);
+        int failed = 0;
+        try {
+            deliver(events);
+        } catch (RuntimeException e) {
+            if (events.size() == 1) {
+                OutboxEvent event = events.get(0);
+                reschedule(event, attempts.get(event.id()), claimId, e);
+                return 0;
+            }
+            log.warn("아웃박스 이벤트 {}건 묶음 전달 실패 - 한 건씩 다시 전달", events.size(), e);
+            for (OutboxEvent event : events) {
+                try {
+                    deliver(List.of(event));
+                } catch (RuntimeException eventFailure) {
+                    failed++;
+                    reschedule(event, attempts.get(event.id()), claimId, eventFailure);
+                }
+            }
+        }
+        jdbcTemplate.update(DELIVERED_SQL, Timestamp.valueOf(LocalDateTime.now()), claimId);
+        return events.size() - failed;
+    }
+
+    private void deliver(List<OutboxEvent> events) {
+        for (PostEventSink sink : sinks) {
+            sink.deliver(events);
+        }
+    }
+
+    // 실패한 이벤트의 claim 을 풀고 다음 시도 시각을 정하거나, 시도 횟수를 다 썼으면 실패로 표시
+    private void reschedule(OutboxEvent event, int attempts, String claimId, RuntimeException cause) {
+        LocalDateTime now = LocalDateTime.now();
+        if (attempts >= maxAttempts) {
+            log.error("아웃박스 이벤트 전달 {}회 실패 - 더 이상 재시도하지 않음 (id={}, postId={}, type={})",
+                    attempts, event.id(), event.postId(), event.type(), cause);
+            jdbcTemplate.update(FAILED_SQL, Timestamp.valueOf(now), event.id(), claimId);
+            return;
+        }
+        long backoff = backoffMillis(attempts);
+        log.warn("아웃박스 이벤트 전달 실패 - {}ms 뒤 재시도 (id={}, 시도 {}/{})",
+                backoff, event.id(), attempts, maxAttempts, cause);
+        jdbcTemplate.update(RETRY_SQL, Timestamp.valueOf(now.plus(backoff, ChronoUnit.MILLIS)), event.id(), claimId);
+    }
+
+    // retry-backoff-ms * 2^(attempts-1), retry-max-backoff-ms 를 넘지 않음
+    private long backoffMillis(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(retryBackoffMillis << shift, retryMaxBackoffMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${post.outbox.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        int deleted = jdbcTemplate.update("DELETE FROM post_outbox WHERE delivered_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted > 0) {
+            log.info("전달 완료된 아웃박스 이벤트 {}건 삭제", deleted);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.comment.vo.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+        // 게시글 여러 개의 댓글 수를 GROUP BY 쿼리 한 번으로 집계 (댓글이 없는 게시글은 결과에 없음)
+        @Query("SELECT c.postId AS postId, COUNT(c) AS count FROM Comment c WHERE c.postId IN :postIds GROUP BY c.postId")
+        List<CommentCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+        long countByPostId(Long postId);
+
+        // keyset 페이지 조회 - afterId 보다 큰 id 부터 limit 개 (OFFSET 없이 인덱스 범위 스캔)
+        List<Comment> findByPostIdAndIdGreaterThanOrderByIdAsc(Long postId, Long afterId, Limit limit);
+
+        interface CommentCount {
+                Long getPostId();
+
+                long getCount();
+        }
+}
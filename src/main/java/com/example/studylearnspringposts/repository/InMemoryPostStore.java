@@ -0,0 +1,175 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 저장소 (테스트 / 벤치마크 / DB 없이 띄울 때)
+ * - id → 게시글 해시맵 + (writeDate DESC, id DESC) 순서의 skip-list 인덱스, 목록 조회는 인덱스를 순서대로 읽기만 함
+ * - 작성자별로도 같은 순서의 skip-list 를 두어서 필터 목록은 시작 위치부터 limit 개만 읽음
+ * - 읽기는 잠금 없음, 쓰기만 두 맵을 함께 갱신하도록 직렬화
+ * - 저장 / 조회 시 복사본을 주고받아서 호출자가 엔티티를 고쳐도 save 전에는 반영되지 않음 (JDBC 엔진과 같은 의미)
+ * - 트랜잭션 롤백과 무관하게 즉시 반영되고, 삭제는 바로 제거 (PostPurgeJob / 조회수 / v2 API 는 post 테이블 기준이라 대상 아님)
+ */
+@Component
+@ConditionalOnProperty(name = PostStore.ENGINE_PROPERTY, havingValue = "memory")
+public class InMemoryPostStore implements PostStore {
+
+    private static final Comparator<PostKey> NEWEST_FIRST = Comparator.comparing(PostKey::writeDate)
+            .thenComparingLong(PostKey::id)
+            .reversed();
+
+    private final Map<Long, Post> byId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<PostKey, Post> byWriteDate = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final Map<String, ConcurrentSkipListMap<PostKey, Post>> byAuthor = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Object writeLock = new Object();
+
+    private record PostKey(LocalDateTime writeDate, long id) {
+    }
+
+    @Override
+    public List<Post> findAllOrderByWriteDateDesc() {
+        List<Post> posts = new ArrayList<>(byId.size());
+        for (Post post : byWriteDate.values()) {
+            posts.add(copy(post));
+        }
+        return posts;
+    }
+
+    @Override
+    public Optional<Post> findById(Long id) {
+        Post post = byId.get(id);
+        return post != null ? Optional.of(copy(post)) : Optional.empty();
+    }
+
+    @Override
+    public List<Post> findAllById(Collection<Long> ids) {
+        List<Post> posts = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Post post = byId.get(id);
+            if (post != null) {
+                posts.add(copy(post));
+            }
+        }
+        return posts;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return byId.containsKey(id);
+    }
+
+    @Override
+    public List<Post> findFiltered(PostFilter filter, int limit) {
+        NavigableMap<PostKey, Post> index = byWriteDate;
+        if (filter.author() != null) {
+            index = byAuthor.get(filter.author());
+            if (index == null) {
+                return List.of();
+            }
+        }
+        // 내림차순 인덱스이므로 커서 / to 중 더 뒤쪽이 시작 위치 (그 키 자체는 제외), from 은 끝 조건
+        PostKey start = filter.hasCursor() ? new PostKey(filter.afterWriteDate(), filter.afterId()) : null;
+        if (filter.to() != null) {
+            PostKey toKey = new PostKey(filter.to(), Long.MIN_VALUE);
+            if (start == null || NEWEST_FIRST.compare(toKey, start) > 0) {
+                start = toKey;
+            }
+        }
+        if (start != null) {
+            index = index.tailMap(start, false);
+        }
+        List<Post> posts = new ArrayList<>(Math.min(limit, 64));
+        for (Post post : index.values()) {
+            if (posts.size() >= limit || (filter.from() != null && post.getWriteDate().isBefore(filter.from()))) {
+                break;
+            }
+            posts.add(copy(post));
+        }
+        return posts;
+    }
+
+    @Override
+    public Post save(Post post) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (writeLock) {
+            if (post.getId() == null) {
+                post.setId(sequence.incrementAndGet());
+                post.setViews(0L);
+                post.setCreatedDate(now);
+            } else {
+                Post existing = byId.get(post.getId());
+                if (existing == null) {
+                    // 삭제된 게시글 수정은 JDBC 엔진처럼 아무 행도 바꾸지 않음
+                    return post;
+                }
+                unindex(existing);
+            }
+            post.setUpdatedDate(now);
+            Post stored = copy(post);
+            byId.put(stored.getId(), stored);
+            byWriteDate.put(key(stored), stored);
+            byAuthor.computeIfAbsent(stored.getAuthor(), author -> new ConcurrentSkipListMap<>(NEWEST_FIRST))
+                    .put(key(stored), stored);
+        }
+        return post;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        synchronized (writeLock) {
+            Post removed = byId.remove(id);
+            if (removed != null) {
+                unindex(removed);
+            }
+        }
+    }
+
+    // writeLock 안에서 호출 - 작성자의 마지막 게시글이면 작성자 인덱스도 제거
+    private void unindex(Post post) {
+        PostKey key = key(post);
+        byWriteDate.remove(key);
+        ConcurrentSkipListMap<PostKey, Post> authored = byAuthor.get(post.getAuthor());
+        if (authored != null) {
+            authored.remove(key);
+            if (authored.isEmpty()) {
+                byAuthor.remove(post.getAuthor());
+            }
+        }
+    }
+
+    private static PostKey key(Post post) {
+        return new PostKey(post.getWriteDate(), post.getId());
+    }
+
+    // 분리 저장된 본문(externalContent)은 복사하지 않음 - JPA 엔진처럼 PostContentStore.load 로 다시 읽음
+    private static Post copy(Post post) {
+        Post copy = Post.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .author(post.getAuthor())
+                .password(post.getPassword())
+                .content(post.isContentExternal() ? "" : post.getContent())
+                .contentExternal(post.isContentExternal())
+                .writeDate(post.getWriteDate())
+                .views(post.getViews())
+                .build();
+        copy.setCreatedDate(post.getCreatedDate());
+        copy.setUpdatedDate(post.getUpdatedDate());
+        return copy;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JdbcTemplate 저장소 - JPA 와 같은 post 테이블을 PreparedStatement + RowMapper 로 직접 읽고 씀
+ * - 영속성 컨텍스트 / dirty checking 이 없으므로 수정은 save 를 호출할 때만 UPDATE 1번으로 반영
+ * - 트랜잭션은 @Primary JpaTransactionManager 가 같은 DataSource 커넥션으로 묶어줌
+ */
+@Component
+@ConditionalOnProperty(name = PostStore.ENGINE_PROPERTY, havingValue = "jdbc")
+public class JdbcPostStore implements PostStore {
+    private static final String COLUMNS = "id, title, author, password, content, content_external, write_date, "
+            + "views, deleted_at, created_date, updated_date";
+
+    private static final String SELECT_ALL = "SELECT " + COLUMNS
+            + " FROM post WHERE deleted_at IS NULL ORDER BY write_date DESC, id DESC";
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM post WHERE id = ? AND deleted_at IS NULL";
+    private static final String EXISTS_BY_ID = "SELECT COUNT(*) FROM post WHERE id = ? AND deleted_at IS NULL";
+    private static final String INSERT = "INSERT INTO post (title, author, password, content, content_external, "
+            + "write_date, created_date, updated_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE = "UPDATE post SET title = ?, author = ?, password = ?, content = ?, "
+            + "content_external = ?, updated_date = ? WHERE id = ? AND deleted_at IS NULL";
+    private static final String SOFT_DELETE =
+            "UPDATE post SET deleted_at = CURRENT_TIMESTAMP WHERE id = ? AND deleted_at IS NULL";
+
+    private static final RowMapper<Post> ROW_MAPPER = JdbcPostStore::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPostStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Post> findAllOrderByWriteDateDesc() {
+        return jdbcTemplate.query(SELECT_ALL, ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<Post> findById(Long id) {
+        return jdbcTemplate.query(SELECT_BY_ID, ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public List<Post> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM post WHERE deleted_at IS NULL AND id IN ("
+                + placeholders + ")", ROW_MAPPER, ids.toArray());
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Long count = jdbcTemplate.queryForObject(EXISTS_BY_ID, Long.class, id);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<Post> findFiltered(PostFilter filter, int limit) {
+        FilterQuery query = filterQuery(filter, limit);
+        return jdbcTemplate.query(query.sql(), ROW_MAPPER, query.args());
+    }
+
+    /**
+     * 필터 조건 중 지정된 것만 WHERE 에 넣은 쿼리 (조건마다 쿼리 모양이 고정되어 인덱스 선택이 일정함)
+     * - author 가 있으면 (author, write_date, id) 인덱스, 없으면 (write_date, id) 인덱스 범위 스캔
+     * - 커서는 write_date <= ? 로 인덱스 범위를 좁히고 같은 시각은 id 로 구분
+     */
+    static FilterQuery filterQuery(PostFilter filter, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM post WHERE deleted_at IS NULL");
+        List<Object> args = new ArrayList<>(6);
+        if (filter.author() != null) {
+            sql.append(" AND author = ?");
+            args.add(filter.author());
+        }
+        if (filter.from() != null) {
+            sql.append(" AND write_date >= ?");
+            args.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" AND write_date < ?");
+            args.add(Timestamp.valueOf(filter.to()));
+        }
+        if (filter.hasCursor()) {
+            Timestamp cursor = Timestamp.valueOf(filter.afterWriteDate());
+            sql.append(" AND write_date <= ? AND (write_date < ? OR id < ?)");
+            args.add(cursor);
+            args.add(cursor);
+            args.add(filter.afterId());
+        }
+        sql.append(" ORDER BY write_date DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return new FilterQuery(sql.toString(), args.toArray());
+    }
+
+    record FilterQuery(String sql, Object[] args) {
+    }
+
+    @Override
+    public Post save(Post post) {
+        LocalDateTime now = LocalDateTime.now();
+        if (post.getId() != null) {
+            jdbcTemplate.update(UPDATE, post.getTitle(), post.getAuthor(), post.getPassword(), storedContent(post),
+                    post.isContentExternal(), Timestamp.valueOf(now), post.getId());
+            post.setUpdatedDate(now);
+            return post;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT, new String[]{"id"});
+            statement.setString(1, post.getTitle());
+            statement.setString(2, post.getAuthor());
+            statement.setString(3, post.getPassword());
+            statement.setString(4, storedContent(post));
+            statement.setBoolean(5, post.isContentExternal());
+            statement.setTimestamp(6, Timestamp.valueOf(post.getWriteDate()));
+            statement.setTimestamp(7, Timestamp.valueOf(now));
+            statement.setTimestamp(8, Timestamp.valueOf(now));
+            return statement;
+        }, keyHolder);
+        post.setId(keyHolder.getKey().longValue());
+        post.setViews(0L);
+        post.setCreatedDate(now);
+        post.setUpdatedDate(now);
+        return post;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jdbcTemplate.update(SOFT_DELETE, id);
+    }
+
+    // post.content 컬럼 값 (분리 저장된 본문이면 getContent() 가 아니라 빈 문자열)
+    private static String storedContent(Post post) {
+        return post.isContentExternal() ? "" : post.getContent();
+    }
+
+    private static Post mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Post post = Post.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .author(rs.getString("author"))
+                .password(rs.getString("password"))
+                .content(rs.getString("content"))
+                .contentExternal(rs.getBoolean("content_external"))
+                .writeDate(toLocalDateTime(rs.getTimestamp("write_date")))
+                .views(rs.getLong("views"))
+                .deletedAt(toLocalDateTime(rs.getTimestamp("deleted_at")))
+                .build();
+        post.setCreatedDate(toLocalDateTime(rs.getTimestamp("created_date")));
+        post.setUpdatedDate(toLocalDateTime(rs.getTimestamp("updated_date")));
+        return post;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
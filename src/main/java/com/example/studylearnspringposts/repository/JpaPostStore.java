@@ -0,0 +1,93 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA 저장소 (기본 엔진)
+ */
+@Component
+@ConditionalOnProperty(name = PostStore.ENGINE_PROPERTY, havingValue = "jpa", matchIfMissing = true)
+public class JpaPostStore implements PostStore {
+
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+
+    public JpaPostStore(PostRepository postRepository, EntityManager entityManager) {
+        this.postRepository = postRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Post> findAllOrderByWriteDateDesc() {
+        return postRepository.findAllByOrderByWriteDateDescIdDesc();
+    }
+
+    @Override
+    public Optional<Post> findById(Long id) {
+        return postRepository.findById(id);
+    }
+
+    @Override
+    public List<Post> findAllById(Collection<Long> ids) {
+        return postRepository.findAllById(ids);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return postRepository.existsById(id);
+    }
+
+    /**
+     * 지정된 조건만 넣은 JPQL (JdbcPostStore.filterQuery 와 같은 모양, 삭제 제외 조건은 @SQLRestriction 이 붙임)
+     */
+    @Override
+    public List<Post> findFiltered(PostFilter filter, int limit) {
+        List<String> conditions = new ArrayList<>(4);
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (filter.author() != null) {
+            conditions.add("p.author = :author");
+            params.put("author", filter.author());
+        }
+        if (filter.from() != null) {
+            conditions.add("p.writeDate >= :from");
+            params.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            conditions.add("p.writeDate < :to");
+            params.put("to", filter.to());
+        }
+        if (filter.hasCursor()) {
+            conditions.add("p.writeDate <= :afterWriteDate AND (p.writeDate < :afterWriteDate OR p.id < :afterId)");
+            params.put("afterWriteDate", filter.afterWriteDate());
+            params.put("afterId", filter.afterId());
+        }
+        String jpql = "SELECT p FROM Post p"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY p.writeDate DESC, p.id DESC";
+
+        TypedQuery<Post> query = entityManager.createQuery(jpql, Post.class).setMaxResults(limit);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public Post save(Post post) {
+        return postRepository.save(post);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        postRepository.deleteById(id);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MyRepository extends JpaRepository<User, Long> {
 
@@ -20,5 +21,9 @@ public interface MyRepository extends JpaRepository<User, Long> {
     
     boolean existsByUsername(String username);
 
+    // username 블룸 필터 생성용 (트랜잭션 안에서 스트림으로 읽음)
+    @Query("SELECT u.username FROM User u")
+    Stream<String> streamAllUsernames();
+
 
 }
@@ -0,0 +1,14 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.attachment.vo.PostAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PostAttachmentRepository extends JpaRepository<PostAttachment, Long> {
+
+        List<PostAttachment> findByPostIdAndBlobHashNotOrderByIdAsc(Long postId, String blobHash);
+
+        Optional<PostAttachment> findByIdAndPostId(Long id, Long postId);
+}
@@ -0,0 +1,7 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.post.vo.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+}
@@ -0,0 +1,30 @@
+package com.example.studylearnspringposts.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 필터 목록 조건 (null 인 항목은 조건에서 제외)
+ * - 작성 날짜는 from 이상 to 미만
+ * - afterWriteDate / afterId 는 keyset 커서: 이전 페이지 마지막 게시글보다 (writeDate, id) 가 작은 것부터
+ * - 정렬은 항상 writeDate DESC, id DESC
+ */
+public record PostFilter(String author, LocalDateTime from, LocalDateTime to,
+                         LocalDateTime afterWriteDate, Long afterId) {
+
+    public PostFilter {
+        if ((afterWriteDate == null) != (afterId == null)) {
+            throw new IllegalArgumentException("커서는 작성 날짜와 id 를 함께 지정해야 합니다");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 이전이어야 합니다");
+        }
+    }
+
+    public boolean hasCursor() {
+        return afterId != null;
+    }
+
+    public PostFilter after(LocalDateTime writeDate, Long id) {
+        return new PostFilter(author, from, to, writeDate, id);
+    }
+}
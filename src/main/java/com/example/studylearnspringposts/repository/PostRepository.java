@@ -17,6 +17,9 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
         List<Post> findAllByOrderByWriteDateDesc();
 
+        // 같은 시각에 작성된 게시글도 순서가 고정되도록 id 를 보조 정렬 키로 사용 (PostStore 엔진 간 순서 일치)
+        List<Post> findAllByOrderByWriteDateDescIdDesc();
+
         @Override
         void deleteById (Long id);
 }
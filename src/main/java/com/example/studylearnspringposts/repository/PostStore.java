@@ -0,0 +1,34 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 저장소 SPI (PostService 가 사용하는 연산만)
+ * - post.store.engine 으로 구현 선택: jpa (기본) / jdbc / memory
+ * - 삭제된 게시글(soft delete)은 모든 조회에서 제외
+ */
+public interface PostStore {
+    String ENGINE_PROPERTY = "post.store.engine";
+
+    // 작성 날짜 기준 내림차순 (같은 시각이면 id 내림차순)
+    List<Post> findAllOrderByWriteDateDesc();
+
+    Optional<Post> findById(Long id);
+
+    // 결과 순서는 보장하지 않음, 없는 id 는 건너뜀
+    List<Post> findAllById(Collection<Long> ids);
+
+    boolean existsById(Long id);
+
+    // 필터 + keyset 페이지 (writeDate DESC, id DESC 순서로 최대 limit 개)
+    List<Post> findFiltered(PostFilter filter, int limit);
+
+    // id 가 없으면 새로 저장, 있으면 제목 / 작성자 / 비밀번호 / 본문 갱신
+    Post save(Post post);
+
+    void deleteById(Long id);
+}
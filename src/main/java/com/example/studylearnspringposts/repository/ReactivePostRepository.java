@@ -0,0 +1,17 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.post.vo.PostRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PostRepository 의 R2DBC 버전 (/api/v2 읽기 전용)
+ * - JPA 의 @SQLRestriction 이 적용되지 않으므로 삭제된 게시글 제외 조건을 메서드에 직접 둠
+ */
+public interface ReactivePostRepository extends R2dbcRepository<PostRow, Long> {
+
+        Flux<PostRow> findAllByDeletedAtIsNullOrderByWriteDateDesc();
+
+        Mono<PostRow> findByIdAndDeletedAtIsNull(Long id);
+}
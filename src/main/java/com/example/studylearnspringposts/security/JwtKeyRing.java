@@ -0,0 +1,405 @@
+package com.example.studylearnspringposts.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 서명 키 묶음
+ * - 가장 최근 키 하나로 서명하고, 헤더의 kid 로 검증 키를 찾음 (kid -> 키 조회는 해시맵 한 번)
+ * - 교체된 키는 그 키로 발급된 토큰이 모두 만료될 때까지 검증용으로 남겨둠
+ * - 비대칭 키(ES256 / EdDSA)는 공개키만 JWKS 로 공개, 다른 서비스는 공유 비밀 없이 검증 가능
+ * - JWKS 응답은 키가 바뀔 때만 다시 만들고, 요청마다 같은 바이트 배열을 그대로 내려줌
+ * - 여러 인스턴스가 키 디렉터리를 공유하면 다른 인스턴스가 교체한 키는 디렉터리를 다시 읽어서 합침
+ *   - 모르는 kid 의 토큰이 오면 바로 (최대 1초에 한 번), 그 외에는 reload-interval-ms 마다
+ *   - 가장 최근에 만들어진 키로 서명을 넘기고 JWKS 도 다시 만듦
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    public static final String ES256 = "ES256";
+    public static final String EDDSA = "EdDSA";
+    public static final String HS256 = "HS256";
+
+    private static final String HMAC_KEY_ID = "hs256";
+    private static final byte[] EMPTY_JWKS = "{\"keys\":[]}".getBytes(StandardCharsets.UTF_8);
+    // 모르는 kid 로 디렉터리를 다시 읽는 최소 간격 (임의의 kid 를 보내는 요청이 매번 디스크를 읽지 않도록)
+    private static final long UNKNOWN_KID_RELOAD_INTERVAL_MILLIS = 1000;
+
+    private final String algorithm;
+    private final SecretKey hmacKey;
+    private final Path keyDir;
+    private final long retiredKeyTtlMillis;
+    private final long rotationIntervalMillis;
+
+    private final Map<String, SigningKey> keys = new ConcurrentHashMap<>();
+    private volatile SigningKey active;
+    private volatile byte[] jwks = EMPTY_JWKS;
+    private final AtomicLong lastUnknownKidReload = new AtomicLong();
+
+    public JwtKeyRing(@Value("${jwt.signing.algorithm:ES256}") String algorithm,
+                      @Value("${jwt.secret:mySecretKey12345678901234567890123456789012345}") String secret,
+                      @Value("${jwt.signing.key-dir:./data/jwt-keys}") String keyDir,
+                      @Value("${jwt.refresh-expiration:1209600000}") long retiredKeyTtlMillis,
+                      @Value("${jwt.signing.rotation-interval-ms:604800000}") long rotationIntervalMillis) {
+        if (!ES256.equals(algorithm) && !EDDSA.equals(algorithm) && !HS256.equals(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 서명 알고리즘입니다: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.hmacKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.keyDir = keyDir == null || keyDir.isBlank() ? null : Paths.get(keyDir);
+        this.retiredKeyTtlMillis = retiredKeyTtlMillis;
+        this.rotationIntervalMillis = rotationIntervalMillis;
+    }
+
+    @PostConstruct
+    void load() throws IOException {
+        if (HS256.equals(algorithm)) {
+            // 대칭키는 공개할 수 없으므로 JWKS 는 비워둠
+            active = new SigningKey(HMAC_KEY_ID, HS256, hmacKey, hmacKey, 0);
+            keys.put(HMAC_KEY_ID, active);
+            return;
+        }
+
+        merge(readKeyDir());
+        if (active == null || active.createdAt() + rotationIntervalMillis <= System.currentTimeMillis()) {
+            rotate();
+        }
+        log.info("JWT 서명 키 로드 완료 - algorithm={}, active={}, keys={}", algorithm, active.kid(), keys.keySet());
+    }
+
+    /**
+     * 키 디렉터리를 다시 읽어서 다른 인스턴스가 만든 키를 합침
+     * @return 새로 알게 된 키 수
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval-ms:60000}",
+            initialDelayString = "${jwt.signing.reload-interval-ms:60000}")
+    public int reload() {
+        if (HS256.equals(algorithm) || keyDir == null) {
+            return 0;
+        }
+        try {
+            int added = merge(readKeyDir());
+            if (added > 0) {
+                log.info("다른 인스턴스의 JWT 서명 키 {}개 로드 - active={}", added, active.kid());
+            }
+            return added;
+        } catch (IOException e) {
+            log.warn("JWT 서명 키 디렉터리를 다시 읽지 못했습니다 - {}", keyDir, e);
+            return 0;
+        }
+    }
+
+    private List<SigningKey> readKeyDir() throws IOException {
+        List<SigningKey> loaded = new ArrayList<>();
+        if (keyDir != null && Files.isDirectory(keyDir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(keyDir, "*.key")) {
+                for (Path file : files) {
+                    SigningKey key = read(file);
+                    if (key != null && key.algorithm().equals(algorithm)) {
+                        loaded.add(key);
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // 메모리의 키와 읽어 온 키를 합쳐서 만든 시각 순으로 교체 시각을 다시 매기고, 가장 최근 키를 서명 키로 사용
+    private synchronized int merge(List<SigningKey> loaded) {
+        Map<String, SigningKey> all = new HashMap<>(keys);
+        int added = 0;
+        for (SigningKey key : loaded) {
+            if (all.putIfAbsent(key.kid(), key) == null) {
+                added++;
+            }
+        }
+        if (all.isEmpty()) {
+            return 0;
+        }
+        // 다음 키가 만들어진 시각 = 이전 키가 서명을 멈춘 시각
+        List<SigningKey> sorted = new ArrayList<>(all.values());
+        sorted.sort(Comparator.comparingLong(SigningKey::createdAt));
+        for (int i = 0; i < sorted.size(); i++) {
+            SigningKey key = sorted.get(i);
+            keys.put(key.kid(), key.retiredAt(i + 1 < sorted.size() ? sorted.get(i + 1).createdAt() : 0));
+        }
+        active = keys.get(sorted.get(sorted.size() - 1).kid());
+        purgeRetired();
+        return added;
+    }
+
+    /**
+     * 새 서명 키 생성 - 이후 발급되는 토큰부터 새 키로 서명, 이전 키는 검증용으로만 유지
+     */
+    public synchronized String rotate() {
+        if (HS256.equals(algorithm)) {
+            throw new IllegalStateException("HS256 은 jwt.secret 을 바꿔서 교체해야 합니다");
+        }
+        long now = System.currentTimeMillis();
+        KeyPair keyPair = generate(algorithm);
+        SigningKey created = new SigningKey(UUID.randomUUID().toString().substring(0, 8), algorithm,
+                keyPair.getPrivate(), keyPair.getPublic(), now);
+        write(created);
+
+        SigningKey previous = active;
+        if (previous != null) {
+            keys.put(previous.kid(), previous.retiredAt(now));
+        }
+        keys.put(created.kid(), created);
+        active = created;
+        purgeRetired();
+        return created.kid();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.rotation-interval-ms:604800000}",
+            initialDelayString = "${jwt.signing.rotation-interval-ms:604800000}")
+    public void scheduledRotate() {
+        if (HS256.equals(algorithm)) {
+            return;
+        }
+        // 다른 인스턴스가 먼저 교체했으면 그 키를 그대로 사용
+        reload();
+        if (active.createdAt() + rotationIntervalMillis <= System.currentTimeMillis()) {
+            log.info("JWT 서명 키 교체 - new kid={}", rotate());
+        }
+    }
+
+    /**
+     * 현재 서명 키로 kid 헤더와 서명을 붙임
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        SigningKey key = active;
+        builder.header().keyId(key.kid()).and();
+        switch (key.algorithm()) {
+            case ES256 -> builder.signWith((PrivateKey) key.signingKey(), Jwts.SIG.ES256);
+            case EDDSA -> builder.signWith((PrivateKey) key.signingKey(), Jwts.SIG.EdDSA);
+            default -> builder.signWith((SecretKey) key.signingKey(), Jwts.SIG.HS256);
+        }
+        return builder;
+    }
+
+    /**
+     * 검증 키 조회 (JwtParser 의 keyLocator)
+     * - kid 가 없는 토큰은 HS256 모드에서만 허용 (이전 버전에서 발급된 토큰)
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null && HS256.equals(algorithm)) {
+            return hmacKey;
+        }
+        SigningKey key = kid != null ? keys.get(kid) : null;
+        if (key == null && kid != null && reloadForUnknownKid()) {
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + kid);
+        }
+        return key.verificationKey();
+    }
+
+    // 다른 인스턴스가 방금 교체한 키일 수 있으므로 디렉터리를 다시 읽음 (UNKNOWN_KID_RELOAD_INTERVAL_MILLIS 에 한 번)
+    private boolean reloadForUnknownKid() {
+        if (HS256.equals(algorithm) || keyDir == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastUnknownKidReload.get();
+        if (now - last < UNKNOWN_KID_RELOAD_INTERVAL_MILLIS || !lastUnknownKidReload.compareAndSet(last, now)) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    /**
+     * 미리 직렬화해 둔 JWKS (application/json)
+     */
+    public byte[] getJwks() {
+        return jwks;
+    }
+
+    public String getActiveKeyId() {
+        return active.kid();
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    // 교체된 지 토큰 최대 수명 이상 지난 키 제거, 남은 공개키로 JWKS 다시 생성
+    private synchronized void purgeRetired() {
+        long now = System.currentTimeMillis();
+        keys.values().removeIf(key -> {
+            boolean expired = key.retiredAt() > 0 && key.retiredAt() + retiredKeyTtlMillis < now;
+            if (expired && keyDir != null) {
+                try {
+                    Files.deleteIfExists(keyDir.resolve(key.kid() + ".key"));
+                } catch (IOException e) {
+                    log.warn("만료된 JWT 서명 키 파일 삭제 실패 - kid={}", key.kid(), e);
+                }
+            }
+            return expired;
+        });
+        jwks = encodeJwks();
+    }
+
+    private byte[] encodeJwks() {
+        List<SigningKey> published = new ArrayList<>(keys.values());
+        published.sort(Comparator.comparingLong(SigningKey::createdAt).reversed());
+
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        for (int i = 0; i < published.size(); i++) {
+            SigningKey key = published.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('{');
+            if (key.verificationKey() instanceof ECPublicKey ec) {
+                json.append("\"kty\":\"EC\",\"crv\":\"P-256\"")
+                        .append(",\"x\":\"").append(base64Url(unsigned(ec.getW().getAffineX(), 32))).append('"')
+                        .append(",\"y\":\"").append(base64Url(unsigned(ec.getW().getAffineY(), 32))).append('"');
+            } else {
+                // Ed25519 X.509 인코딩은 12바이트 헤더 + 32바이트 공개키
+                byte[] encoded = key.verificationKey().getEncoded();
+                json.append("\"kty\":\"OKP\",\"crv\":\"Ed25519\"")
+                        .append(",\"x\":\"").append(base64Url(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length))).append('"');
+            }
+            json.append(",\"kid\":\"").append(key.kid()).append('"')
+                    .append(",\"alg\":\"").append(key.algorithm()).append('"')
+                    .append(",\"use\":\"sig\"}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static KeyPair generate(String algorithm) {
+        try {
+            if (ES256.equals(algorithm)) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 생성하지 못했습니다: " + algorithm, e);
+        }
+    }
+
+    private void write(SigningKey key) {
+        if (keyDir == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.setProperty("kid", key.kid());
+        properties.setProperty("algorithm", key.algorithm());
+        properties.setProperty("created", Long.toString(key.createdAt()));
+        properties.setProperty("private", Base64.getEncoder().encodeToString(key.signingKey().getEncoded()));
+        properties.setProperty("public", Base64.getEncoder().encodeToString(key.verificationKey().getEncoded()));
+        try {
+            Files.createDirectories(keyDir);
+            Path file = keyDir.resolve(key.kid() + ".key");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            try {
+                Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException ignored) {
+                // POSIX 권한을 지원하지 않는 파일 시스템
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWT 서명 키를 저장하지 못했습니다", e);
+        }
+    }
+
+    private static SigningKey read(Path file) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            String algorithm = properties.getProperty("algorithm");
+            KeyFactory keyFactory = KeyFactory.getInstance(ES256.equals(algorithm) ? "EC" : "Ed25519");
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getDecoder().decode(properties.getProperty("private"))));
+            PublicKey publicKey = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(properties.getProperty("public"))));
+            return new SigningKey(properties.getProperty("kid"), algorithm, privateKey, publicKey,
+                    Long.parseLong(properties.getProperty("created")));
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            log.warn("JWT 서명 키 파일을 읽지 못했습니다 - {}", file, e);
+            return null;
+        }
+    }
+
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] padded = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, padded, length - copy, copy);
+        return padded;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 서명 키 1개 - retiredAt 이 0 이면 현재 서명 중인 키
+     */
+    record SigningKey(String kid, String algorithm, Key signingKey, Key verificationKey, long createdAt, long retiredAt) {
+        SigningKey(String kid, String algorithm, Key signingKey, Key verificationKey, long createdAt) {
+            this(kid, algorithm, signingKey, verificationKey, createdAt, 0);
+        }
+
+        SigningKey retiredAt(long time) {
+            return new SigningKey(kid, algorithm, signingKey, verificationKey, createdAt, time);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.studylearnspringposts.security;
 
+import com.example.studylearnspringposts.util.JwtAuthenticationFilter;
 import com.example.studylearnspringposts.util.JwtUtil;
 import com.example.studylearnspringposts.util.LoginFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -19,10 +21,13 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtUtil jwtUtil;
+    private final TokenDenylist tokenDenylist;
 
-    public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, JwtUtil jwtUtil) {
+    public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, JwtUtil jwtUtil,
+                          TokenDenylist tokenDenylist) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
+        this.tokenDenylist = tokenDenylist;
     }
 
     @Bean
@@ -38,8 +43,12 @@ public class SecurityConfig {
         // 경로별 인가작업을 진행하는 메소드 체인
         http.authorizeHttpRequests((auth) ->
             auth.requestMatchers("/api/v1/*").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll() // 게시글 단건 조회, SSE 스트림 등 읽기 API
+                .requestMatchers("/api/v2/posts").permitAll() // v2 (리액티브) 도 v1 과 같은 규칙
+                .requestMatchers(HttpMethod.GET, "/api/v2/posts/**").permitAll()
                 .requestMatchers("/api/v1/auth/*").permitAll()
                 .requestMatchers("/board").permitAll()
+                .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll() // 토큰 검증용 공개키
                 .anyRequest().authenticated() // 다른모든요청에대해서는 로그인한 사용자만 허용
             );
 
@@ -47,6 +56,9 @@ public class SecurityConfig {
         // LoginFilter 에 인자로넘기기위해 새로운 Bean을 등록해야함 > AuthenticationManager
         http.addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil), UsernamePasswordAuthenticationFilter.class); // 두번재인자는 위치
 
+        // Bearer 액세스 토큰 검증 (폐기된 토큰은 TokenDenylist 에서 걸러짐)
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, tokenDenylist), UsernamePasswordAuthenticationFilter.class);
+
         // jwt 에서는 stateless 하게 관리하기위해 세션설정을 추가로해준다.
         http.sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
@@ -0,0 +1,185 @@
+package com.example.studylearnspringposts.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 폐기된 토큰 id(jti) 목록
+ * - isRevoked 는 해시맵 조회 한 번 (요청마다 호출되는 경로)
+ * - 만료 시각 기준 시간 버킷으로 묶어두고, 만료된 버킷은 통째로 정리 (이미 만료된 토큰은 어차피 검증에서 걸러짐)
+ * - 폐기 내역은 로컬 파일에 append 해서 재시작 후에도 유지, 정리 시 살아있는 항목만 남기고 다시 씀
+ */
+@Component
+public class TokenDenylist {
+    private static final Logger log = LoggerFactory.getLogger(TokenDenylist.class);
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Set<String>> expiryBuckets = new ConcurrentSkipListMap<>();
+
+    private final Path file;
+    private final long bucketMillis;
+
+    private BufferedWriter writer;
+    private long appendedLines;
+
+    public TokenDenylist(@Value("${jwt.denylist.file:./data/token-denylist.log}") String file,
+                         @Value("${jwt.denylist.bucket-seconds:60}") long bucketSeconds) {
+        this.file = Paths.get(file);
+        this.bucketMillis = bucketSeconds * 1000;
+    }
+
+    @PostConstruct
+    void load() throws IOException {
+        long now = System.currentTimeMillis();
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int separator = line.indexOf(' ');
+                    if (separator <= 0) {
+                        continue; // 쓰다가 끊긴 마지막 줄 등은 무시
+                    }
+                    try {
+                        long expiresAt = Long.parseLong(line.substring(separator + 1).trim());
+                        if (expiresAt > now) {
+                            index(line.substring(0, separator), expiresAt);
+                        }
+                    } catch (NumberFormatException ignored) {
+                        // 손상된 줄 무시
+                    }
+                }
+            }
+        }
+        rewriteFile();
+        log.info("토큰 폐기 목록 로드 완료 - {}건", revoked.size());
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (O(1))
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 토큰 폐기 - 만료 시각까지만 보관
+     * @return 새로 폐기했으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return false;
+        }
+        if (revoked.putIfAbsent(tokenId, expiresAtMillis) != null) {
+            return false;
+        }
+        expiryBuckets.computeIfAbsent(expiresAtMillis / bucketMillis, bucket -> ConcurrentHashMap.newKeySet())
+                .add(tokenId);
+        append(tokenId, expiresAtMillis);
+        return true;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * 만료된 버킷 정리, 파일에 쌓인 줄이 살아있는 항목보다 많이 늘었으면 파일도 다시 씀
+     */
+    @Scheduled(fixedDelayString = "${jwt.denylist.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long currentBucket = System.currentTimeMillis() / bucketMillis;
+        NavigableMap<Long, Set<String>> expired = expiryBuckets.headMap(currentBucket, false);
+        for (Map.Entry<Long, Set<String>> bucket : expired.entrySet()) {
+            bucket.getValue().forEach(revoked::remove);
+        }
+        expired.clear();
+
+        synchronized (this) {
+            if (appendedLines > 1024 && appendedLines > revoked.size() * 2L) {
+                try {
+                    rewriteFile();
+                } catch (IOException e) {
+                    log.warn("토큰 폐기 목록 파일 정리 실패", e);
+                }
+            }
+        }
+    }
+
+    private void index(String tokenId, long expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        expiryBuckets.computeIfAbsent(expiresAt / bucketMillis, bucket -> ConcurrentHashMap.newKeySet()).add(tokenId);
+    }
+
+    private synchronized void append(String tokenId, long expiresAt) {
+        try {
+            writer.write(tokenId);
+            writer.write(' ');
+            writer.write(Long.toString(expiresAt));
+            writer.newLine();
+            writer.flush();
+            appendedLines++;
+        } catch (IOException e) {
+            // 메모리에는 반영되어 있으므로 요청은 계속 처리, 재시작 시에만 유실
+            log.warn("토큰 폐기 내역을 파일에 기록하지 못했습니다 - jti: {}", tokenId, e);
+        }
+    }
+
+    // 살아있는 항목만 임시 파일에 쓰고 교체한 뒤 append 모드로 다시 연다
+    private synchronized void rewriteFile() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long now = System.currentTimeMillis();
+        long lines = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Long> entry : revoked.entrySet()) {
+                if (entry.getValue() > now) {
+                    out.write(entry.getKey());
+                    out.write(' ');
+                    out.write(Long.toString(entry.getValue()));
+                    out.newLine();
+                    lines++;
+                }
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        appendedLines = lines;
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.attachment.vo.PostAttachment;
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.exception.InvalidPostPasswordException;
+import com.example.studylearnspringposts.exception.PostNotFoundException;
+import com.example.studylearnspringposts.repository.PostAttachmentRepository;
+import com.example.studylearnspringposts.repository.PostStore;
+import com.example.studylearnspringposts.util.SegmentBlobStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 첨부파일 서비스
+ * - 파일 내용은 로컬 디스크의 SegmentBlobStore 에 저장 (해시 기준 중복 제거), DB 에는 post id → blob 해시 인덱스만
+ * - 업로드 스트림을 다 받을 때까지 DB 트랜잭션을 잡지 않도록 클래스 단위 @Transactional 을 쓰지 않음
+ * - 업로드 / 삭제는 게시글 수정 / 삭제와 같이 게시글 비밀번호가 맞아야 함
+ * - 업로드는 인덱스 행을 먼저 저장하고 (해시는 비워 둠) 내용을 다 쓴 뒤 해시를 채움
+ *   - 저장소에 쓰는 중 실패하면 행을 지우고, 해시가 빈 행은 목록 / 다운로드에서 제외
+ */
+@Service
+public class AttachmentService {
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    // 내용을 아직 쓰는 중인 행의 blob_hash
+    static final String PENDING_HASH = "";
+
+    private final PostAttachmentRepository postAttachmentRepository;
+    private final PostStore postStore;
+    private final SegmentBlobStore blobStore;
+    private final long maxSize;
+
+    public AttachmentService(PostAttachmentRepository postAttachmentRepository, PostStore postStore,
+                             @Value("${post.attachments.dir:./data/attachments}") String dir,
+                             @Value("${post.attachments.segment-size:268435456}") long segmentSize,
+                             @Value("${post.attachments.max-size:104857600}") long maxSize) {
+        this.postAttachmentRepository = postAttachmentRepository;
+        this.postStore = postStore;
+        this.blobStore = new SegmentBlobStore(Paths.get(dir), segmentSize);
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        blobStore.open();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        blobStore.close();
+    }
+
+    /**
+     * 첨부파일 업로드 - 본문을 힙에 모으지 않고 저장소로 흘려보낸 뒤 인덱스 행에 해시 기록
+     */
+    public PostAttachment upload(Long postId, String password, String filename, String contentType,
+                                 InputStream body) throws IOException {
+        // 본문을 읽기 전에 확인해서 없는 게시글 / 틀린 비밀번호의 업로드는 디스크에 쓰지 않음
+        checkPassword(postId, password);
+        if (filename == null || filename.isBlank()) {
+            throw new IllegalArgumentException("파일 이름이 비어 있습니다");
+        }
+        PostAttachment attachment = postAttachmentRepository.save(PostAttachment.builder()
+                .postId(postId)
+                .blobHash(PENDING_HASH)
+                .filename(filename)
+                .contentType(contentType != null && !contentType.isBlank() ? contentType : DEFAULT_CONTENT_TYPE)
+                .size(0)
+                .uploadDate(LocalDateTime.now())
+                .build());
+        SegmentBlobStore.BlobLocation location;
+        try {
+            location = blobStore.put(body, maxSize);
+        } catch (IOException | RuntimeException e) {
+            postAttachmentRepository.deleteById(attachment.getId());
+            throw e;
+        }
+        attachment.setBlobHash(location.hash());
+        attachment.setSize(location.length());
+        return postAttachmentRepository.save(attachment);
+    }
+
+    public List<PostAttachment> getAttachments(Long postId) {
+        if (!postStore.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
+        return postAttachmentRepository.findByPostIdAndBlobHashNotOrderByIdAsc(postId, PENDING_HASH);
+    }
+
+    public Optional<PostAttachment> findAttachment(Long postId, Long attachmentId) {
+        if (!postStore.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
+        return postAttachmentRepository.findByIdAndPostId(attachmentId, postId)
+                .filter(attachment -> !PENDING_HASH.equals(attachment.getBlobHash()));
+    }
+
+    /**
+     * 첨부파일 삭제 - 인덱스 행만 지움 (blob 은 다른 첨부가 같은 해시를 쓸 수 있어 저장소에 남김)
+     * @return 삭제할 첨부파일이 없으면 false
+     */
+    public boolean delete(Long postId, Long attachmentId, String password) {
+        checkPassword(postId, password);
+        Optional<PostAttachment> attachment = postAttachmentRepository.findByIdAndPostId(attachmentId, postId);
+        if (attachment.isEmpty()) {
+            return false;
+        }
+        postAttachmentRepository.delete(attachment.get());
+        return true;
+    }
+
+    public SegmentBlobStore.BlobLocation locate(PostAttachment attachment) {
+        SegmentBlobStore.BlobLocation location = blobStore.find(attachment.getBlobHash());
+        if (location == null) {
+            throw new IllegalStateException("첨부파일 내용이 저장소에 없습니다: " + attachment.getBlobHash());
+        }
+        return location;
+    }
+
+    /**
+     * 세그먼트 파일 경로 (서블릿 컨테이너의 sendfile 로 직접 전송할 때 사용)
+     */
+    public Path segmentPath(SegmentBlobStore.BlobLocation location) {
+        return blobStore.segmentPath(location.segment());
+    }
+
+    public void transferTo(SegmentBlobStore.BlobLocation location, long offset, long count,
+                           WritableByteChannel target) throws IOException {
+        blobStore.transferTo(location, offset, count, target);
+    }
+
+    private void checkPassword(Long postId, String password) {
+        Post post = postStore.findById(postId).orElseThrow(() -> new PostNotFoundException(postId));
+        if (!post.getPassword().equals(password)) {
+            throw new InvalidPostPasswordException();
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.cache.CacheInvalidationBus;
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.AuthorPostSummaryDto;
+import com.example.studylearnspringposts.repository.PostFilter;
+import com.example.studylearnspringposts.repository.PostStore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * 작성자별 게시글 요약 (게시글 수, 마지막 작성 시각, 최신 게시글 id latest-size 개)
+ * - 작성자 페이지 / 프로필 위젯이 COUNT(*) / ORDER BY write_date 없이 요약 행 하나만 읽도록 미리 계산해 둠
+ * - PostService 의 작성 / 삭제 / 작성자 변경이 커밋된 뒤 해당 작성자의 요약만 증분 갱신
+ *   (별도 트랜잭션, version 이 같을 때만 UPDATE 하고 충돌하면 다시 읽어서 재시도)
+ * - 읽기는 이 노드의 ConcurrentHashMap → 없으면 author_post_summary 행, 갱신되면 CacheInvalidationBus 로 다른 노드의 항목을 제거
+ * - 증분 갱신 실패 / 게시글 행을 직접 바꾼 경우의 어긋남은 재집계 작업이 작성자 batch-size 명씩 post 테이블에서 다시 계산해서 맞춤
+ *   - 작성자 전체를 도는 동안 공용 스케줄러 스레드를 잡고 있지 않도록 전용 스레드 하나에서 실행
+ * - 재집계 도중 커밋된 삭제는 다음 재집계까지 1건 정도 어긋날 수 있음 (작성은 최신 id 목록으로 중복 반영을 막음)
+ * - post 테이블을 쓰지 않는 memory 저장소 엔진에서는
+ *   - 최신 목록 / 마지막 작성 시각을 PostStore 의 작성자 필터 목록으로 다시 채움 (post 테이블은 비어 있으므로)
+ *   - 재집계하지 않음 (증분 갱신만, 재시작하면 게시글과 함께 요약도 처음부터)
+ */
+@Component
+public class AuthorPostSummaryService {
+    private static final Logger log = LoggerFactory.getLogger(AuthorPostSummaryService.class);
+
+    public static final String NAME = "author-summary";
+    private static final int MAX_ATTEMPTS = 5;
+    // latest_post_ids 컬럼(1000자)에 들어가는 최대 개수
+    private static final int MAX_LATEST_SIZE = 50;
+
+    private static final String SELECT_SQL =
+            "SELECT author, post_count, last_post_date, latest_post_ids, version FROM author_post_summary";
+    private static final String LATEST_SQL = "SELECT id, write_date FROM post WHERE author = ? AND deleted_at IS NULL "
+            + "ORDER BY write_date DESC, id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final PostStore postStore;
+    private final int latestSize;
+    private final int batchSize;
+    // post 테이블에 게시글이 있는 엔진 (jpa / jdbc) - 아니면 재집계하지 않고 최신 목록은 PostStore 로 읽음
+    private final boolean postTableBacked;
+
+    private final Map<String, Summary> summaries = new ConcurrentHashMap<>();
+    // 제거 / 갱신이 일어날 때마다 증가 - 읽기 전후 값이 다르면 읽은 행을 맵에 남기지 않음
+    private final AtomicLong changes = new AtomicLong();
+
+    // 주기적 재집계용 전용 스레드 - 이미 대기 / 실행 중이면 다음 주기를 쌓지 않음
+    private final ExecutorService reconcileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "author-summary-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean reconcileQueued = new AtomicBoolean();
+
+    public AuthorPostSummaryService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    CacheInvalidationBus invalidationBus, PostStore postStore,
+                                    @Value("${post.author-summary.latest-size:10}") int latestSize,
+                                    @Value("${post.author-summary.reconcile-batch-size:200}") int batchSize,
+                                    @Value("${" + PostStore.ENGINE_PROPERTY + ":jpa}") String engine) {
+        if (latestSize < 1 || latestSize > MAX_LATEST_SIZE) {
+            throw new IllegalArgumentException("post.author-summary.latest-size 는 1 이상 " + MAX_LATEST_SIZE + " 이하여야 합니다");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        // 커밋이 끝난 뒤에 호출되므로 항상 새 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.invalidationBus = invalidationBus;
+        this.postStore = postStore;
+        this.latestSize = latestSize;
+        this.batchSize = batchSize;
+        this.postTableBacked = !"memory".equals(engine);
+        invalidationBus.subscribe(NAME, keys -> {
+            changes.incrementAndGet();
+            keys.forEach(summaries::remove);
+        });
+    }
+
+    /**
+     * 작성자 요약 (이 노드의 맵 → 요약 테이블, 게시글이 없는 작성자는 0건)
+     */
+    public AuthorPostSummaryDto getSummary(String author) {
+        Summary summary = summaries.get(author);
+        if (summary == null) {
+            long observed = changes.get();
+            summary = select(author);
+            if (summary == null) {
+                return Summary.empty(author).toDto();
+            }
+            remember(summary);
+            if (changes.get() != observed) {
+                summaries.remove(author, summary);
+            }
+        }
+        return summary.toDto();
+    }
+
+    /**
+     * 게시글 작성 반영 (트랜잭션 안이면 커밋된 뒤)
+     */
+    public void recordCreated(Post post) {
+        String author = post.getAuthor();
+        Long id = post.getId();
+        LocalDateTime writeDate = post.getWriteDate();
+        afterCommit(() -> modify(author, current -> created(current, id, writeDate)));
+    }
+
+    /**
+     * 게시글 삭제 반영 (트랜잭션 안이면 커밋된 뒤)
+     */
+    public void recordDeleted(Post post) {
+        String author = post.getAuthor();
+        Long id = post.getId();
+        afterCommit(() -> modify(author, current -> deleted(current, id)));
+    }
+
+    /**
+     * 수정으로 작성자가 바뀐 경우 - 이전 작성자에서 빼고 새 작성자에 더함 (트랜잭션 안이면 커밋된 뒤)
+     */
+    public void recordAuthorChanged(String previousAuthor, Post post) {
+        String author = post.getAuthor();
+        Long id = post.getId();
+        afterCommit(() -> {
+            modify(previousAuthor, current -> deleted(current, id));
+            modify(author, current -> {
+                long count = current.latestPostIds().contains(id) ? current.postCount() : current.postCount() + 1;
+                return withLatestFromBase(current, count);
+            });
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIfEmpty() {
+        if (!postTableBacked) {
+            return;
+        }
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM author_post_summary", Integer.class);
+        if (rows != null && rows == 0) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 주기적 재집계를 전용 스레드로 넘기고 바로 반환
+     */
+    @Scheduled(fixedDelayString = "${post.author-summary.reconcile-interval-ms:3600000}",
+            initialDelayString = "${post.author-summary.reconcile-interval-ms:3600000}")
+    public void scheduleReconcile() {
+        if (!postTableBacked || !reconcileQueued.compareAndSet(false, true)) {
+            return;
+        }
+        reconcileExecutor.execute(() -> {
+            try {
+                reconcile();
+            } catch (DataAccessException e) {
+                log.warn("작성자 요약 재집계 실패 - 다음 주기에 재시도", e);
+            } finally {
+                reconcileQueued.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reconcileExecutor.shutdownNow();
+    }
+
+    /**
+     * post 테이블에서 작성자 batch-size 명씩 다시 집계해서 요약 행을 맞추고, 게시글이 없는 작성자의 행은 삭제
+     * @return 다시 집계한 작성자 수
+     */
+    public synchronized int reconcile() {
+        if (!postTableBacked) {
+            return 0;
+        }
+        int authors = 0;
+        int corrected = 0;
+        String after = null;
+        List<String> batch;
+        do {
+            batch = after == null
+                    ? jdbcTemplate.queryForList("SELECT DISTINCT author FROM post WHERE deleted_at IS NULL "
+                    + "ORDER BY author LIMIT ?", String.class, batchSize)
+                    : jdbcTemplate.queryForList("SELECT DISTINCT author FROM post WHERE deleted_at IS NULL "
+                    + "AND author > ? ORDER BY author LIMIT ?", String.class, after, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            corrected += reconcileBatch(batch);
+            authors += batch.size();
+            after = batch.get(batch.size() - 1);
+        } while (batch.size() == batchSize);
+        int removed = removeStale();
+        if (corrected > 0 || removed > 0) {
+            log.info("작성자 요약 재집계 완료 - 작성자 {}명, 보정 {}건, 삭제 {}건", authors, corrected, removed);
+        }
+        return authors;
+    }
+
+    // 요약 행(version) → post 집계 순서로 읽어야 그 사이의 증분 갱신을 version 충돌로 알아챌 수 있음
+    private int reconcileBatch(List<String> authors) {
+        Map<String, Summary> before = selectAll(authors);
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT author, COUNT(*) AS post_count FROM post WHERE deleted_at IS NULL AND author IN ("
+                        + placeholders(authors.size()) + ") GROUP BY author",
+                (ResultSet rs) -> {
+                    counts.put(rs.getString("author"), rs.getLong("post_count"));
+                }, authors.toArray());
+
+        int corrected = 0;
+        for (String author : authors) {
+            Summary current = before.get(author);
+            Summary rebuilt = withLatestFromBase(current != null ? current : Summary.empty(author),
+                    counts.getOrDefault(author, 0L));
+            if (current != null && sameContent(current, rebuilt)) {
+                continue;
+            }
+            corrected++;
+            Summary written = transactionTemplate.execute(status -> write(current, rebuilt));
+            if (written != null) {
+                publish(written);
+            } else {
+                modify(author, latest -> withLatestFromBase(latest, countFromBase(author)));
+            }
+        }
+        return corrected;
+    }
+
+    // 요약 행은 있는데 삭제되지 않은 게시글이 없는 작성자 - version 이 그대로일 때만 행 삭제
+    private int removeStale() {
+        int removed = 0;
+        String after = null;
+        List<Summary> batch;
+        do {
+            batch = after == null
+                    ? jdbcTemplate.query(SELECT_SQL + " ORDER BY author LIMIT ?", this::mapSummary, batchSize)
+                    : jdbcTemplate.query(SELECT_SQL + " WHERE author > ? ORDER BY author LIMIT ?",
+                    this::mapSummary, after, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<String> authors = batch.stream().map(Summary::author).toList();
+            Set<String> live = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT DISTINCT author FROM post WHERE deleted_at IS NULL AND author IN ("
+                            + placeholders(authors.size()) + ")", String.class, authors.toArray()));
+            for (Summary summary : batch) {
+                if (!live.contains(summary.author()) && jdbcTemplate.update(
+                        "DELETE FROM author_post_summary WHERE author = ? AND version = ?",
+                        summary.author(), summary.version()) == 1) {
+                    changes.incrementAndGet();
+                    invalidationBus.invalidate(NAME, summary.author());
+                    removed++;
+                }
+            }
+            after = authors.get(authors.size() - 1);
+        } while (batch.size() == batchSize);
+        return removed;
+    }
+
+    private Summary created(Summary current, Long id, LocalDateTime writeDate) {
+        if (current.latestPostIds().contains(id)) {
+            return current; // 재집계가 이미 반영함
+        }
+        List<Long> latest = new ArrayList<>(latestSize);
+        latest.add(id);
+        for (Long existing : current.latestPostIds()) {
+            if (latest.size() == latestSize) {
+                break;
+            }
+            latest.add(existing);
+        }
+        LocalDateTime last = current.lastPostDate() == null
+                || (writeDate != null && writeDate.isAfter(current.lastPostDate())) ? writeDate : current.lastPostDate();
+        return new Summary(current.author(), current.postCount() + 1, last, List.copyOf(latest), current.version());
+    }
+
+    private Summary deleted(Summary current, Long id) {
+        long count = Math.max(0, current.postCount() - 1);
+        if (current.latestPostIds().contains(id)) {
+            return withLatestFromBase(current, count);
+        }
+        return new Summary(current.author(), count, current.lastPostDate(), current.latestPostIds(), current.version());
+    }
+
+    // 최신 목록 / 마지막 작성 시각은 (author, write_date, id) 인덱스 범위에서 latest-size 개만 읽어서 다시 채움
+    private Summary withLatestFromBase(Summary current, long count) {
+        List<Long> ids = new ArrayList<>(latestSize);
+        List<LocalDateTime> dates = new ArrayList<>(latestSize);
+        if (postTableBacked) {
+            jdbcTemplate.query(LATEST_SQL, (ResultSet rs) -> {
+                ids.add(rs.getLong("id"));
+                dates.add(toLocalDateTime(rs.getTimestamp("write_date")));
+            }, current.author(), latestSize);
+        } else {
+            PostFilter byAuthor = new PostFilter(current.author(), null, null, null, null);
+            for (Post post : postStore.findFiltered(byAuthor, latestSize)) {
+                ids.add(post.getId());
+                dates.add(post.getWriteDate());
+            }
+        }
+        return new Summary(current.author(), count, dates.isEmpty() ? null : dates.get(0), List.copyOf(ids),
+                current.version());
+    }
+
+    private long countFromBase(String author) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post WHERE author = ? AND deleted_at IS NULL", Long.class, author);
+        return count != null ? count : 0;
+    }
+
+    // 요약 행을 읽어서 change 를 적용하고 version 조건부로 저장, 충돌하면 처음부터 다시
+    private void modify(String author, UnaryOperator<Summary> change) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Summary written = transactionTemplate.execute(status -> {
+                Summary current = select(author);
+                Summary next = change.apply(current != null ? current : Summary.empty(author));
+                if (current == null ? next.postCount() == 0 && next.latestPostIds().isEmpty()
+                        : sameContent(current, next)) {
+                    return Summary.empty(author); // 바뀐 것 없음
+                }
+                return write(current, next);
+            });
+            if (written != null) {
+                if (written.version() > 0) {
+                    publish(written);
+                }
+                return;
+            }
+        }
+        log.warn("작성자 요약 갱신 충돌이 계속됨 - {} 는 다음 재집계에서 보정", author);
+    }
+
+    /**
+     * @return 저장된 요약 (version 증가), 다른 갱신과 충돌하면 null
+     */
+    private Summary write(Summary current, Summary next) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp last = next.lastPostDate() != null ? Timestamp.valueOf(next.lastPostDate()) : null;
+        String ids = joinIds(next.latestPostIds());
+        if (current == null) {
+            Summary inserted = new Summary(next.author(), next.postCount(), next.lastPostDate(), next.latestPostIds(), 1);
+            try {
+                jdbcTemplate.update("INSERT INTO author_post_summary "
+                                + "(author, post_count, last_post_date, latest_post_ids, version, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                        next.author(), next.postCount(), last, ids, inserted.version(), now);
+                return inserted;
+            } catch (DuplicateKeyException e) {
+                return null;
+            }
+        }
+        Summary updated = new Summary(next.author(), next.postCount(), next.lastPostDate(), next.latestPostIds(),
+                current.version() + 1);
+        int rows = jdbcTemplate.update("UPDATE author_post_summary SET post_count = ?, last_post_date = ?, "
+                        + "latest_post_ids = ?, version = ?, updated_at = ? WHERE author = ? AND version = ?",
+                next.postCount(), last, ids, updated.version(), now, next.author(), current.version());
+        return rows == 1 ? updated : null;
+    }
+
+    // 다른 노드의 맵에서 제거하고 이 노드의 맵은 새 값으로 교체
+    private void publish(Summary summary) {
+        changes.incrementAndGet();
+        invalidationBus.invalidate(NAME, summary.author());
+        remember(summary);
+    }
+
+    // 같은 작성자를 동시에 넣으면 version 이 큰 쪽을 남김
+    private void remember(Summary summary) {
+        summaries.merge(summary.author(), summary,
+                (existing, next) -> next.version() >= existing.version() ? next : existing);
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runSafely(update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    runSafely(update);
+                }
+            }
+        });
+    }
+
+    // 요약 갱신 실패가 게시글 쓰기 응답을 실패시키지 않도록 - 어긋난 값은 재집계에서 보정
+    private static void runSafely(Runnable update) {
+        try {
+            update.run();
+        } catch (DataAccessException e) {
+            log.warn("작성자 요약 갱신 실패 - 다음 재집계에서 보정", e);
+        }
+    }
+
+    private Summary select(String author) {
+        List<Summary> rows = jdbcTemplate.query(SELECT_SQL + " WHERE author = ?", this::mapSummary, author);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private Map<String, Summary> selectAll(List<String> authors) {
+        Map<String, Summary> result = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL + " WHERE author IN (" + placeholders(authors.size()) + ")",
+                (ResultSet rs) -> {
+                    Summary summary = mapSummary(rs, 0);
+                    result.put(summary.author(), summary);
+                }, authors.toArray());
+        return result;
+    }
+
+    private Summary mapSummary(ResultSet rs, int rowNum) throws SQLException {
+        return new Summary(rs.getString("author"), rs.getLong("post_count"),
+                toLocalDateTime(rs.getTimestamp("last_post_date")), parseIds(rs.getString("latest_post_ids")),
+                rs.getLong("version"));
+    }
+
+    private static boolean sameContent(Summary a, Summary b) {
+        return a.postCount() == b.postCount() && Objects.equals(a.lastPostDate(), b.lastPostDate())
+                && a.latestPostIds().equals(b.latestPostIds());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static String joinIds(List<Long> ids) {
+        StringBuilder joined = new StringBuilder();
+        for (Long id : ids) {
+            if (!joined.isEmpty()) {
+                joined.append(',');
+            }
+            joined.append(id);
+        }
+        return joined.toString();
+    }
+
+    private static List<Long> parseIds(String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(joined.split(",")).map(Long::valueOf).toList();
+    }
+
+    private record Summary(String author, long postCount, LocalDateTime lastPostDate, List<Long> latestPostIds,
+                           long version) {
+        static Summary empty(String author) {
+            return new Summary(author, 0, null, List.of(), 0);
+        }
+
+        AuthorPostSummaryDto toDto() {
+            return new AuthorPostSummaryDto(author, postCount, lastPostDate, latestPostIds);
+        }
+    }
+}
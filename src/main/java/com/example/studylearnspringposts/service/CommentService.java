@@ -0,0 +1,93 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.comment.vo.Comment;
+import com.example.studylearnspringposts.dto.CommentPageDto;
+import com.example.studylearnspringposts.dto.CommentRequestDto;
+import com.example.studylearnspringposts.dto.CommentResponseDto;
+import com.example.studylearnspringposts.exception.PostNotFoundException;
+import com.example.studylearnspringposts.repository.CommentRepository;
+import com.example.studylearnspringposts.repository.PostStore;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 서비스
+ * - 목록 화면용 댓글 수는 게시글 개수와 상관없이 집계 쿼리 1번
+ * - 댓글 목록은 id 기준 keyset 페이지 (페이지 크기와 상관없이 쿼리 1번, 뒤쪽 페이지도 OFFSET 비용 없음)
+ */
+@Service
+@Transactional(readOnly = true)
+public class CommentService {
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final PostStore postStore;
+
+    public CommentService(CommentRepository commentRepository, PostStore postStore) {
+        this.commentRepository = commentRepository;
+        this.postStore = postStore;
+    }
+
+    // 댓글 작성
+    @Transactional
+    public Comment addComment(Long postId, String author, CommentRequestDto commentRequestDto) {
+        if (!postStore.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
+        if (commentRequestDto.getContent() == null || commentRequestDto.getContent().isBlank()) {
+            throw new IllegalArgumentException("댓글 내용이 비어 있습니다");
+        }
+        return commentRepository.save(Comment.builder()
+                .postId(postId)
+                .author(author)
+                .content(commentRequestDto.getContent())
+                .writeDate(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 게시글의 댓글 한 페이지
+     * @param afterId 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CommentPageDto getComments(Long postId, Long afterId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하로 지정해야 합니다");
+        }
+        // 한 개 더 읽어서 다음 페이지 존재 여부 판단 (별도 count 쿼리 없음)
+        List<Comment> comments = commentRepository.findByPostIdAndIdGreaterThanOrderByIdAsc(
+                postId, afterId != null ? afterId : 0L, Limit.of(size + 1));
+
+        boolean hasNext = comments.size() > size;
+        List<CommentResponseDto> page = new ArrayList<>(Math.min(comments.size(), size));
+        for (int i = 0; i < comments.size() && i < size; i++) {
+            page.add(CommentResponseDto.fromEntity(comments.get(i)));
+        }
+        return new CommentPageDto(page, hasNext ? page.get(page.size() - 1).getId() : null);
+    }
+
+    /**
+     * 게시글별 댓글 수 (댓글이 없는 게시글은 0)
+     */
+    public Map<Long, Long> countByPostIds(Collection<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return counts;
+        }
+        for (CommentRepository.CommentCount count : commentRepository.countByPostIds(postIds)) {
+            counts.put(count.getPostId(), count.getCount());
+        }
+        return counts;
+    }
+
+    public long countByPostId(Long postId) {
+        return commentRepository.countByPostId(postId);
+    }
+}
@@ -2,62 +2,109 @@ package com.example.studylearnspringposts.service;
 
 import com.example.studylearnspringposts.domain.user.vo.User;
 import com.example.studylearnspringposts.repository.MyRepository;
+import com.example.studylearnspringposts.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MyRepository myRepository;
+    private final UsernameFilter usernameFilter;
 
-    public CustomUserDetailsService(MyRepository myRepository) {
+    // username → 불변 principal 캐시 (JPA 엔티티는 보관하지 않음)
+    private final BoundedTtlCache<String, CustomUserPrincipal> userDetailsCache;
+
+    public CustomUserDetailsService(MyRepository myRepository, UsernameFilter usernameFilter,
+                                    @Value("${user.details-cache.max-size:10000}") int cacheMaxSize,
+                                    @Value("${user.details-cache.ttl-seconds:300}") long cacheTtlSeconds) {
         this.myRepository = myRepository;
+        this.usernameFilter = usernameFilter;
+        this.userDetailsCache = new BoundedTtlCache<>(cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Optional<User> userOptional = myRepository.findByUsername(username);
+        CustomUserPrincipal cached = userDetailsCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<User> userOptional = usernameFilter.mightExist(username)
+                ? myRepository.findByUsername(username)
+                : Optional.empty();
         
         if (userOptional.isEmpty()) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
         }
 
-        User user = userOptional.get();
-        
-        return new CustomUserPrincipal(user);
+        CustomUserPrincipal principal = CustomUserPrincipal.from(userOptional.get());
+        userDetailsCache.put(username, principal);
+        return principal;
+    }
+
+    /**
+     * 비밀번호 / 권한이 바뀐 사용자는 캐시에서 즉시 제거해야 함
+     */
+    public void evict(String username) {
+        userDetailsCache.invalidate(username);
+        // 커밋 전에 다른 로그인 요청이 옛 값을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsCache.invalidate(username);
+                }
+            });
+        }
     }
 
-    // UserDetails 구현 클래스
-    public static class CustomUserPrincipal implements UserDetails {
-        private final User user;
+    // UserDetails 구현 클래스 - 캐시에 보관하므로 필요한 값만 가진 불변 객체
+    // (CredentialsContainer 를 구현하지 않아서 인증 후 비밀번호 삭제 처리에도 캐시된 값이 바뀌지 않음)
+    public static final class CustomUserPrincipal implements UserDetails {
+        private final Long id;
+        private final String username;
+        private final String password;
+        private final String role;
+        private final List<GrantedAuthority> authorities;
+
+        public CustomUserPrincipal(Long id, String username, String password, String role) {
+            this.id = id;
+            this.username = username;
+            this.password = password;
+            this.role = role;
+            this.authorities = role == null ? List.of() : List.of(new SimpleGrantedAuthority(role));
+        }
 
-        public CustomUserPrincipal(User user) {
-            this.user = user;
+        public static CustomUserPrincipal from(User user) {
+            return new CustomUserPrincipal(user.getId(), user.getUsername(), user.getPassword(), user.getRole());
         }
 
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
-            Collection<GrantedAuthority> authorities = new ArrayList<>();
-            authorities.add(new SimpleGrantedAuthority(user.getRole()));
             return authorities;
         }
 
         @Override
         public String getPassword() {
-            return user.getPassword();
+            return password;
         }
 
         @Override
         public String getUsername() {
-            return user.getUsername();
+            return username;
         }
 
         @Override
@@ -80,9 +127,12 @@ public class CustomUserDetailsService implements UserDetailsService {
             return true;
         }
 
-        // User 엔티티에 접근하기 위한 메서드
-        public User getUser() {
-            return user;
+        public Long getId() {
+            return id;
+        }
+
+        public String getRole() {
+            return role;
         }
     }
-} 
\ No newline at end of file
+} 
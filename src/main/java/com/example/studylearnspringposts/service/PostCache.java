@@ -0,0 +1,221 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.cache.CacheInvalidationBus;
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.PostCacheStatsDto;
+import com.example.studylearnspringposts.util.BoundedTtlCache;
+import com.example.studylearnspringposts.util.OffHeapSlabCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 단건 / 여러 건 게시글 조회용 로컬 캐시 (id → Post 복사본), 2계층
+ * - L1: 힙의 작은 LRU, 본문이 l1-max-content-length 이하인 자주 읽는 게시글만 (객체 그대로라 변환 비용 없음)
+ * - L2: off-heap 슬랩(OffHeapSlabCache)에 직렬화해서 바이트 용량 기준으로 보관, L2 에서 찾은 작은 게시글은 L1 로 올림
+ *   (큰 TEXT 본문이 힙에 오래 머물면서 GC 시간을 늘리지 않도록)
+ * - 수정 / 삭제는 CacheInvalidationBus 로 이 노드와 다른 노드의 같은 키를 두 계층에서 모두 제거
+ * - 없는 게시글은 캐시하지 않음 (임의 id 조회로 캐시가 채워지지 않도록)
+ * - 쓰기 트랜잭션 안에서 읽은 값은 아직 커밋 전일 수 있으므로 넣지 않음
+ * - 조회 도중 무효화가 일어나면 읽은 값을 버림 (제거 직전에 읽은 오래된 값이 다시 들어가는 것 방지)
+ */
+@Component
+public class PostCache {
+    public static final String NAME = "post";
+
+    private final CacheInvalidationBus invalidationBus;
+    private final BoundedTtlCache<Long, Post> heapCache;
+    private final OffHeapSlabCache offHeapCache; // offheap.capacity-bytes 가 0 이면 null
+    private final boolean enabled;
+    private final int heapMaxContentLength;
+    // 제거가 일어날 때마다 증가 - 로드 전후 값이 다르면 로드한 값을 캐시에 남기지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PostCache(CacheInvalidationBus invalidationBus,
+                     @Value("${post.cache.enabled:true}") boolean enabled,
+                     @Value("${post.cache.max-size:1000}") int maxSize,
+                     @Value("${post.cache.ttl-seconds:60}") long ttlSeconds,
+                     @Value("${post.cache.l1-max-content-length:4096}") int heapMaxContentLength,
+                     @Value("${post.cache.offheap.capacity-bytes:268435456}") long offHeapCapacityBytes,
+                     @Value("${post.cache.offheap.slab-bytes:4194304}") int offHeapSlabBytes,
+                     @Value("${post.cache.offheap.block-bytes:1024}") int offHeapBlockBytes) {
+        this.invalidationBus = invalidationBus;
+        this.enabled = enabled;
+        this.heapMaxContentLength = heapMaxContentLength;
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        this.heapCache = new BoundedTtlCache<>(maxSize, ttl);
+        this.offHeapCache = offHeapCapacityBytes > 0
+                ? new OffHeapSlabCache(offHeapCapacityBytes, offHeapSlabBytes, offHeapBlockBytes, ttl)
+                : null;
+        invalidationBus.subscribe(NAME, keys -> keys.forEach(key -> evictLocal(Long.valueOf(key))));
+    }
+
+    /**
+     * L1 → L2 → loader 순서로 찾아서 복사본 반환, loader 로 읽은 값은 두 계층에 저장
+     */
+    public Optional<Post> get(Long id, Function<Long, Optional<Post>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        long observed = evictions.get();
+        Post cached = lookup(id, observed);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Post> loaded = loader.apply(id);
+        loaded.ifPresent(post -> store(id, post, observed));
+        return loaded;
+    }
+
+    /**
+     * 여러 건 조회 - 캐시에 있는 id 는 복사본으로, 나머지 id 만 loader 로 한 번에 읽어서 두 계층에 저장
+     * - loader 는 못 찾은 id 목록을 받아 있는 게시글만 반환 (결과 순서는 보장하지 않음)
+     */
+    public List<Post> getAll(Collection<Long> ids, Function<Collection<Long>, List<Post>> loader) {
+        if (!enabled) {
+            return loader.apply(ids);
+        }
+        long observed = evictions.get();
+        List<Post> posts = new ArrayList<>(ids.size());
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            Post cached = lookup(id, observed);
+            if (cached != null) {
+                posts.add(cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (Post post : loader.apply(misses)) {
+                store(post.getId(), post, observed);
+                posts.add(post);
+            }
+        }
+        return posts;
+    }
+
+    /**
+     * 변경된 게시글을 모든 노드에서 제거 (트랜잭션 안이면 끝난 뒤)
+     */
+    public void invalidate(Long id) {
+        invalidationBus.invalidate(NAME, id);
+    }
+
+    /**
+     * 이 노드에서만 제거 (조회수 반영처럼 노드마다 따로 일어나는 변경용)
+     */
+    public void evictLocal(Collection<Long> ids) {
+        ids.forEach(this::evictLocal);
+    }
+
+    /**
+     * 계층별 적중률 / 크기 / off-heap 메모리 사용량
+     */
+    public PostCacheStatsDto getStats() {
+        PostCacheStatsDto.PostCacheStatsDtoBuilder stats = PostCacheStatsDto.builder()
+                .enabled(enabled)
+                .l1Size(heapCache.size())
+                .l1Hits(heapCache.getHitCount())
+                .l1Misses(heapCache.getMissCount())
+                .l1HitRate(hitRate(heapCache.getHitCount(), heapCache.getMissCount()))
+                .l1MaxContentLength(heapMaxContentLength);
+        if (offHeapCache != null) {
+            stats.l2Size(offHeapCache.size())
+                    .l2Hits(offHeapCache.getHitCount())
+                    .l2Misses(offHeapCache.getMissCount())
+                    .l2HitRate(hitRate(offHeapCache.getHitCount(), offHeapCache.getMissCount()))
+                    .l2Evictions(offHeapCache.getEvictionCount())
+                    .l2UsedBytes(offHeapCache.getUsedBytes())
+                    .l2AllocatedBytes(offHeapCache.getAllocatedBytes())
+                    .l2CapacityBytes(offHeapCache.getCapacityBytes());
+        }
+        return stats.build();
+    }
+
+    // L1, L2 순서로 찾아서 복사본 반환 (없으면 null), L2 에서 찾은 작은 게시글은 L1 로 올림
+    private Post lookup(Long id, long observed) {
+        Post cached = heapCache.get(id);
+        if (cached != null) {
+            return copy(cached);
+        }
+        byte[] stored = offHeapCache != null ? offHeapCache.get(id) : null;
+        if (stored == null) {
+            return null;
+        }
+        Post post = PostCacheCodec.decode(stored);
+        if (fitsHeap(post)) {
+            heapCache.put(id, copy(post));
+            if (evictions.get() != observed) {
+                heapCache.invalidate(id);
+            }
+        }
+        return post;
+    }
+
+    private void store(Long id, Post post, long observed) {
+        if (!isCacheable()) {
+            return;
+        }
+        if (offHeapCache != null) {
+            offHeapCache.put(id, PostCacheCodec.encode(post));
+        }
+        if (fitsHeap(post)) {
+            heapCache.put(id, copy(post));
+        }
+        if (evictions.get() != observed) {
+            evictFromTiers(id);
+        }
+    }
+
+    private void evictLocal(Long id) {
+        evictions.incrementAndGet();
+        evictFromTiers(id);
+    }
+
+    private void evictFromTiers(Long id) {
+        heapCache.invalidate(id);
+        if (offHeapCache != null) {
+            offHeapCache.invalidate(id);
+        }
+    }
+
+    private boolean fitsHeap(Post post) {
+        return post.getContent() == null || post.getContent().length() <= heapMaxContentLength;
+    }
+
+    private static double hitRate(long hits, long misses) {
+        return hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+    }
+
+    private static boolean isCacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // 호출자가 엔티티를 바꿔도 캐시 값에 영향이 없도록 항상 복사본을 주고받음
+    private static Post copy(Post post) {
+        Post copy = Post.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .author(post.getAuthor())
+                .password(post.getPassword())
+                .content(post.isContentExternal() ? "" : post.getContent())
+                .contentExternal(post.isContentExternal())
+                .externalContent(post.isContentExternal() ? post.getContent() : null)
+                .writeDate(post.getWriteDate())
+                .views(post.getViews())
+                .build();
+        copy.setCreatedDate(post.getCreatedDate());
+        copy.setUpdatedDate(post.getUpdatedDate());
+        return copy;
+    }
+}
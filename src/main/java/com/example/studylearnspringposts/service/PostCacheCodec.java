@@ -0,0 +1,107 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * PostCache off-heap 계층에 넣는 게시글 직렬화
+ * - 고정 순서 바이너리: id, views, contentExternal, 문자열 4개 (길이 + UTF-8, null 은 -1), 날짜 3개 (초 + 나노, null 은 플래그)
+ * - 같은 JVM 안에서만 읽고 쓰므로 버전 정보는 두지 않음
+ */
+final class PostCacheCodec {
+    private static final long NULL_ID = Long.MIN_VALUE;
+
+    private PostCacheCodec() {
+    }
+
+    static byte[] encode(Post post) {
+        byte[] title = utf8(post.getTitle());
+        byte[] author = utf8(post.getAuthor());
+        byte[] password = utf8(post.getPassword());
+        byte[] content = utf8(post.getContent());
+        int size = Long.BYTES * 2 + 1
+                + stringSize(title) + stringSize(author) + stringSize(password) + stringSize(content)
+                + 3 * (1 + Long.BYTES + Integer.BYTES);
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(post.getId() != null ? post.getId() : NULL_ID);
+        buffer.putLong(post.getViews() != null ? post.getViews() : 0L);
+        buffer.put((byte) (post.isContentExternal() ? 1 : 0));
+        putString(buffer, title);
+        putString(buffer, author);
+        putString(buffer, password);
+        putString(buffer, content);
+        putDate(buffer, post.getWriteDate());
+        putDate(buffer, post.getCreatedDate());
+        putDate(buffer, post.getUpdatedDate());
+        return buffer.array();
+    }
+
+    static Post decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long id = buffer.getLong();
+        long views = buffer.getLong();
+        boolean external = buffer.get() == 1;
+        String title = getString(buffer);
+        String author = getString(buffer);
+        String password = getString(buffer);
+        String content = getString(buffer);
+        Post post = Post.builder()
+                .id(id != NULL_ID ? id : null)
+                .title(title)
+                .author(author)
+                .password(password)
+                .content(external ? "" : content)
+                .contentExternal(external)
+                .externalContent(external ? content : null)
+                .writeDate(getDate(buffer))
+                .views(views)
+                .build();
+        post.setCreatedDate(getDate(buffer));
+        post.setUpdatedDate(getDate(buffer));
+        return post;
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int stringSize(byte[] value) {
+        return Integer.BYTES + (value != null ? value.length : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length).put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void putDate(ByteBuffer buffer, LocalDateTime value) {
+        buffer.put((byte) (value != null ? 1 : 0));
+        buffer.putLong(value != null ? value.toEpochSecond(ZoneOffset.UTC) : 0L);
+        buffer.putInt(value != null ? value.getNano() : 0);
+    }
+
+    private static LocalDateTime getDate(ByteBuffer buffer) {
+        boolean present = buffer.get() == 1;
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return present ? LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.domain.post.vo.PostContent;
+import com.example.studylearnspringposts.repository.PostContentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 저장 위치 관리
+ * - inline (기본): 지금처럼 post.content 에 저장
+ * - table: external-threshold 바이트를 넘는 본문은 post_content 테이블로 분리 (선택적으로 압축)
+ *   → 목록 / 수정 / 삭제 / 비밀번호 확인 경로는 좁은 post 행만 읽음
+ * - 분리된 본문은 응답에 본문이 필요한 조회에서만 load 로 한 번에 (IN 쿼리 1번) 읽어옴
+ */
+@Component
+public class PostContentStore {
+    public static final String INLINE = "inline";
+    public static final String TABLE = "table";
+
+    private final PostContentRepository postContentRepository;
+    private final boolean external;
+    private final int threshold;
+    private final boolean compress;
+
+    public PostContentStore(PostContentRepository postContentRepository,
+                            @Value("${post.content.storage:inline}") String storage,
+                            @Value("${post.content.external-threshold:4096}") int threshold,
+                            @Value("${post.content.compress:true}") boolean compress) {
+        if (!INLINE.equals(storage) && !TABLE.equals(storage)) {
+            throw new IllegalArgumentException("지원하지 않는 본문 저장 방식입니다: " + storage);
+        }
+        this.postContentRepository = postContentRepository;
+        this.external = TABLE.equals(storage);
+        this.threshold = threshold;
+        this.compress = compress;
+    }
+
+    /**
+     * 저장 전에 본문 위치 결정 (post 행에 넣을지, 분리할지)
+     */
+    public void assign(Post post, String body) {
+        boolean separate = external && body != null && exceedsThreshold(body);
+        post.setContentExternal(separate);
+        post.setContent(separate ? "" : body);
+        post.setExternalContent(separate ? body : null);
+    }
+
+    /**
+     * 저장 후 분리된 본문 기록 (post id 가 필요하므로 post 저장 뒤에 호출)
+     * @param wasExternal 저장 전에 본문이 분리되어 있었는지 (작아져서 inline 으로 돌아오면 분리본 삭제)
+     */
+    public void write(Post post, boolean wasExternal) {
+        if (post.isContentExternal()) {
+            postContentRepository.save(encode(post.getId(), post.getExternalContent()));
+        } else if (wasExternal) {
+            postContentRepository.deleteById(post.getId());
+        }
+    }
+
+    /**
+     * 분리 저장된 본문을 한 번에 읽어서 채움 (inline 게시글만 있으면 쿼리 없음)
+     */
+    public void load(Collection<Post> posts) {
+        List<Long> ids = new ArrayList<>();
+        for (Post post : posts) {
+            if (post.isContentExternal() && post.getExternalContent() == null) {
+                ids.add(post.getId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, PostContent> contents = new HashMap<>();
+        for (PostContent content : postContentRepository.findAllById(ids)) {
+            contents.put(content.getPostId(), content);
+        }
+        for (Post post : posts) {
+            PostContent content = contents.get(post.getId());
+            if (content != null) {
+                post.setExternalContent(decode(content.getData(), content.isCompressed()));
+            }
+        }
+    }
+
+    PostContent encode(Long postId, String body) {
+        byte[] raw = body.getBytes(StandardCharsets.UTF_8);
+        if (!compress) {
+            return new PostContent(postId, false, raw.length, raw);
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            byte[] compressed = out.toByteArray();
+            // 압축 효과가 없으면 원본 그대로 저장
+            return compressed.length < raw.length
+                    ? new PostContent(postId, true, raw.length, compressed)
+                    : new PostContent(postId, false, raw.length, raw);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 저장된 바이트를 본문 문자열로 복원 (R2DBC 조회 경로에서도 사용)
+     */
+    public static String decode(byte[] data, boolean compressed) {
+        if (!compressed) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("손상된 게시글 본문입니다");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 게시글 본문입니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // UTF-8 바이트 수가 기준을 넘는지 (대부분의 짧은 글은 배열을 만들지 않고 판단)
+    private boolean exceedsThreshold(String body) {
+        if ((long) body.length() * 3 <= threshold) {
+            return false;
+        }
+        if (body.length() > threshold) {
+            return true;
+        }
+        return body.getBytes(StandardCharsets.UTF_8).length > threshold;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.event.PostChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 변경 이벤트 SSE 브로드캐스터
+ * - 커밋된 PostChangedEvent 를 구독자들에게 push
+ * - 구독자마다 크기가 제한된 큐를 두고, 큐가 가득 찬 느린 구독자는 연결을 끊음 (재접속 후 Last-Event-ID 로 따라잡음)
+ * - 최근 이벤트는 링 버퍼에 보관해서 Last-Event-ID 이후 이벤트를 재전송
+ * - 발행 쪽은 큐에 넣기만 하고, 실제 전송은 소수의 dispatch 스레드가 담당 (요청 스레드를 막지 않음)
+ */
+@Component
+public class PostEventBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(PostEventBroadcaster.class);
+
+    private final StreamEvent[] ring;
+    private long lastSequence;
+    private final Object ringLock = new Object();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+
+    public PostEventBroadcaster(@Value("${post.stream.replay-size:1024}") int replaySize,
+                                @Value("${post.stream.subscriber-buffer-size:64}") int bufferSize,
+                                @Value("${post.stream.timeout-ms:1800000}") long timeoutMillis,
+                                @Value("${post.stream.heartbeat-seconds:30}") long heartbeatSeconds,
+                                @Value("${post.stream.dispatch-threads:2}") int dispatchThreads) {
+        this.ring = new StreamEvent[replaySize];
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, daemonThreads("post-sse-dispatch-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("post-sse-heartbeat-"));
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에만 전파 (롤백된 변경은 내보내지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        publish(event);
+    }
+
+    /**
+     * 새 구독 등록
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id (Last-Event-ID 헤더, 없으면 null)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        synchronized (ringLock) {
+            long lastSeen = parseEventId(lastEventId);
+            if (lastSeen >= 0) {
+                Optional<List<StreamEvent>> replay = replayAfter(lastSeen);
+                if (replay.isEmpty() || replay.get().size() > bufferSize) {
+                    // 링 버퍼 범위를 벗어나면 전체 목록을 다시 받도록 안내
+                    subscriber.offer(StreamEvent.reset(lastSequence));
+                } else {
+                    replay.get().forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    void publish(PostChangedEvent event) {
+        // 순번 부여, 링 버퍼 기록, 큐 적재까지 한 번에 처리해서 구독 시점과 발행 사이에 이벤트가 빠지거나 중복되지 않게 함
+        synchronized (ringLock) {
+            StreamEvent streamEvent = new StreamEvent(++lastSequence, event.getType().name(), event);
+            ring[(int) (streamEvent.sequence % ring.length)] = streamEvent;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(streamEvent);
+            }
+        }
+    }
+
+    /**
+     * lastSeen 이후의 이벤트 목록, 링 버퍼에서 이미 밀려났다면 Optional.empty()
+     */
+    Optional<List<StreamEvent>> replayAfter(long lastSeen) {
+        synchronized (ringLock) {
+            long oldest = Math.max(1, lastSequence - ring.length + 1);
+            if (lastSeen > lastSequence || lastSeen + 1 < oldest) {
+                return Optional.empty();
+            }
+            List<StreamEvent> events = new ArrayList<>((int) (lastSequence - lastSeen));
+            for (long sequence = lastSeen + 1; sequence <= lastSequence; sequence++) {
+                events.add(ring[(int) (sequence % ring.length)]);
+            }
+            return Optional.of(events);
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerHeartbeat();
+        }
+    }
+
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    record StreamEvent(long sequence, String name, Object data) {
+        static final StreamEvent HEARTBEAT = new StreamEvent(0, null, null);
+
+        static StreamEvent reset(long lastSequence) {
+            return new StreamEvent(lastSequence, "RESET", "reload");
+        }
+    }
+
+    /**
+     * 구독자 1명 - 전송은 항상 dispatch 스레드 하나에서만 수행되도록 scheduled 플래그로 직렬화
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(StreamEvent event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.debug("SSE 구독자 버퍼 초과 - 느린 구독자 연결 종료");
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void offerHeartbeat() {
+            // 하트비트는 버퍼가 차 있으면 그냥 건너뜀
+            if (!closed && queue.offer(StreamEvent.HEARTBEAT)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while (!closed && (event = queue.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(StreamEvent event) throws IOException {
+            if (event == StreamEvent.HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.sequence()))
+                    .name(event.name())
+                    .data(event.data(), MediaType.APPLICATION_JSON));
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 끊어진 연결
+            }
+        }
+    }
+}
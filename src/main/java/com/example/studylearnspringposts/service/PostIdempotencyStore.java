@@ -0,0 +1,117 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import com.example.studylearnspringposts.dto.PostResponseDto;
+import com.example.studylearnspringposts.exception.IdempotencyKeyConflictException;
+import com.example.studylearnspringposts.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 작성 Idempotency-Key 저장소 (키 → 작성 결과, 개수 제한 + TTL)
+ * - 처음 온 요청만 실제로 작성하고, 같은 키의 재시도는 저장된 응답을 그대로 반환 (DB 접근 없음, 이후 수정 / 삭제와 무관하게 같은 본문)
+ * - 키 하나당 응답 DTO 하나 + 32바이트 해시를 차지하므로 메모리는 max-keys 로 조절
+ * - 처리 중에 같은 키가 또 오면 먼저 온 요청의 결과를 기다렸다가 같은 응답을 받음
+ * - 같은 키를 다른 본문으로 쓰면 IdempotencyKeyConflictException
+ * - 작성이 실패하면 키를 지워서 클라이언트가 같은 키로 다시 시도할 수 있게 함
+ * - 인스턴스별 메모리 저장이므로 재시작하거나 다른 인스턴스로 재시도가 가면 중복 방지가 안 됨
+ */
+@Component
+public class PostIdempotencyStore {
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final BoundedTtlCache<String, Entry> entries;
+    private final long waitTimeoutMillis;
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong replays = new AtomicLong();
+
+    public PostIdempotencyStore(@Value("${post.idempotency.max-keys:10000}") int maxKeys,
+                                @Value("${post.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                @Value("${post.idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis) {
+        this.entries = new BoundedTtlCache<>(maxKeys, Duration.ofSeconds(ttlSeconds));
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    private record Entry(byte[] fingerprint, CompletableFuture<PostResponseDto> result) {
+    }
+
+    public PostResponseDto execute(String key, PostRequestDto request, Supplier<PostResponseDto> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1 ~ " + MAX_KEY_LENGTH + "자여야 합니다");
+        }
+        Entry entry = new Entry(fingerprint(request), new CompletableFuture<>());
+        Entry existing = entries.putIfAbsent(key, entry);
+        if (existing != null) {
+            if (!MessageDigest.isEqual(existing.fingerprint(), entry.fingerprint())) {
+                throw new IdempotencyKeyConflictException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다");
+            }
+            replays.incrementAndGet();
+            return await(existing);
+        }
+
+        executions.incrementAndGet();
+        try {
+            PostResponseDto response = action.get();
+            entry.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            entries.invalidate(key);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long getExecutionCount() {
+        return executions.get();
+    }
+
+    public long getReplayCount() {
+        return replays.get();
+    }
+
+    private PostResponseDto await(Entry entry) {
+        try {
+            return entry.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 온 요청과 같은 예외를 그대로 전달 (같은 오류 응답)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyConflictException("같은 Idempotency-Key 요청이 아직 처리 중입니다");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException("같은 Idempotency-Key 요청을 기다리다 중단되었습니다");
+        }
+    }
+
+    // 본문 비교용 해시 (비밀번호 원문을 보관하지 않도록 값 전체를 해시로만 저장)
+    private static byte[] fingerprint(PostRequestDto request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String field : new String[]{request.getTitle(), request.getAuthor(), request.getPassword(),
+                request.getContent()}) {
+            // null 과 빈 문자열을 구분하고 필드 경계가 섞이지 않도록 길이를 앞에 붙임
+            String value = field == null ? "-1:" : field.length() + ":" + field;
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return digest.digest();
+    }
+}
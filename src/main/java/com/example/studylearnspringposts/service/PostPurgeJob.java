@@ -0,0 +1,121 @@
+package com.example.studylearnspringposts.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * soft delete 된 게시글 실제 삭제 작업
+ * - 요청 경로의 삭제는 deleted_at 플래그만 갱신하고, 큰 본문 행 / 댓글 삭제는 여기서 처리
+ * - 설정한 시간대(window)에만 작은 배치 단위로 삭제하고, 배치마다 트랜잭션을 짧게 끊어서 조회와의 경합을 줄임
+ *   - 스케줄러 스레드를 다른 작업(캐시 무효화 / 아웃박스 / 조회수 flush)과 공유하므로 한 번 실행에 배치 1개만 처리
+ *   - 배치가 가득 찼으면 batch-pause-ms 뒤 다음 실행에서 이어서, 남은 게 없으면 interval-ms 동안 쉼
+ * - 삭제 후 grace-period 동안은 행을 남겨둠 (복구 / 장애 분석용)
+ */
+@Component
+public class PostPurgeJob {
+    private static final Logger log = LoggerFactory.getLogger(PostPurgeJob.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LocalTime windowStart;
+    private final LocalTime windowEnd;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final Duration gracePeriod;
+
+    // 다음 배치를 시작할 수 있는 시각 (epoch millis), 스케줄러 스레드에서만 접근
+    private long nextRunAt;
+    // 이번 정리(가득 찬 배치가 이어지는 동안)에서 삭제한 수
+    private long purged;
+
+    public PostPurgeJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                        @Value("${post.purge.window-start:02:00}") String windowStart,
+                        @Value("${post.purge.window-end:05:00}") String windowEnd,
+                        @Value("${post.purge.batch-size:100}") int batchSize,
+                        @Value("${post.purge.interval-ms:60000}") long intervalMillis,
+                        @Value("${post.purge.grace-period-minutes:60}") long gracePeriodMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.windowStart = LocalTime.parse(windowStart);
+        this.windowEnd = LocalTime.parse(windowEnd);
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.gracePeriod = Duration.ofMinutes(gracePeriodMinutes);
+    }
+
+    /**
+     * 배치 1개 처리 - batch-pause-ms 마다 불리지만 남은 게 없었으면 interval-ms 가 지날 때까지 바로 반환
+     */
+    @Scheduled(fixedDelayString = "${post.purge.batch-pause-ms:100}")
+    public void run() {
+        long now = System.currentTimeMillis();
+        if (now < nextRunAt) {
+            return;
+        }
+        if (!isInWindow(LocalTime.now())) {
+            finish(now);
+            return;
+        }
+        int deleted = purgeBatch(LocalDateTime.now().minus(gracePeriod));
+        purged += deleted;
+        if (deleted < batchSize) {
+            finish(now);
+        }
+    }
+
+    private void finish(long now) {
+        nextRunAt = now + intervalMillis;
+        if (purged > 0) {
+            log.info("삭제된 게시글 정리 완료 - {}건", purged);
+            purged = 0;
+        }
+    }
+
+    /**
+     * 시작 시각 <= now < 종료 시각 (자정을 넘는 구간 지원, 시작 == 종료면 항상 실행)
+     */
+    boolean isInWindow(LocalTime now) {
+        if (windowStart.equals(windowEnd)) {
+            return true;
+        }
+        if (windowStart.isBefore(windowEnd)) {
+            return !now.isBefore(windowStart) && now.isBefore(windowEnd);
+        }
+        return !now.isBefore(windowStart) || now.isBefore(windowEnd);
+    }
+
+    /**
+     * deletedBefore 이전에 삭제된 게시글을 최대 batchSize 개 실제 삭제 (댓글 / 분리 저장된 본문 / 첨부파일 인덱스 포함, 트랜잭션 1개)
+     * @return 삭제한 게시글 수
+     */
+    int purgeBatch(LocalDateTime deletedBefore) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM post WHERE deleted_at IS NOT NULL AND deleted_at < ? ORDER BY id LIMIT ?",
+                    Long.class, Timestamp.valueOf(deletedBefore), batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+            Object[] args = ids.toArray();
+            jdbcTemplate.update("DELETE FROM post_comment WHERE post_id IN (" + placeholders + ")", args);
+            jdbcTemplate.update("DELETE FROM post_content WHERE post_id IN (" + placeholders + ")", args);
+            jdbcTemplate.update("DELETE FROM post_attachment WHERE post_id IN (" + placeholders + ")", args);
+            return jdbcTemplate.update(
+                    "DELETE FROM post WHERE deleted_at IS NOT NULL AND id IN (" + placeholders + ")", args);
+        });
+        return deleted != null ? deleted : 0;
+    }
+}
@@ -2,74 +2,152 @@ package com.example.studylearnspringposts.service;
 
 import com.example.studylearnspringposts.domain.post.vo.Post;
 import com.example.studylearnspringposts.dto.PostRequestDto;
+import com.example.studylearnspringposts.event.PostChangedEvent;
+import com.example.studylearnspringposts.exception.InvalidPostPasswordException;
 import com.example.studylearnspringposts.exception.PostNotFoundException;
-import com.example.studylearnspringposts.repository.PostRepository;
+import com.example.studylearnspringposts.outbox.PostOutbox;
+import com.example.studylearnspringposts.repository.PostFilter;
+import com.example.studylearnspringposts.repository.PostStore;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 게시글 서비스
+ * - 저장소는 PostStore 구현 중 post.store.engine 으로 선택된 것 하나 (jpa / jdbc / memory)
+ * - 단건 조회는 PostCache 를 거치고, 수정 / 삭제는 캐시 무효화를 다른 인스턴스에도 전파
+ * - 생성 / 수정 / 삭제 이벤트는 같은 트랜잭션 안에서 아웃박스에 기록 (외부 전달은 PostOutboxRelay)
+ * - 작성자별 요약(AuthorPostSummaryService)은 커밋된 뒤 증분 갱신
+ */
 @Service
 @Transactional(readOnly = true) // 읽기 전용 트랜잭션을 기본으로 설정
 public class PostService {
-    private final PostRepository postRepository;
+    private final PostStore postStore;
+    private final PostContentStore postContentStore;
+    private final PostCache postCache;
+    private final PostOutbox postOutbox;
+    private final AuthorPostSummaryService authorPostSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PostService(PostRepository postRepository) {
-        this.postRepository = postRepository;
+    public PostService(PostStore postStore, PostContentStore postContentStore, PostCache postCache,
+                       PostOutbox postOutbox, AuthorPostSummaryService authorPostSummaryService,
+                       ApplicationEventPublisher eventPublisher) {
+        this.postStore = postStore;
+        this.postContentStore = postContentStore;
+        this.postCache = postCache;
+        this.postOutbox = postOutbox;
+        this.authorPostSummaryService = authorPostSummaryService;
+        this.eventPublisher = eventPublisher;
     }
 
-    // 전체 게시글 조회 (작성 날짜 기준 내림차순)
+    // 전체 게시글 조회 (작성 날짜 기준 내림차순, 분리 저장된 본문은 한 번에 로드)
     public List<Post> getAllPosts() {
-        return postRepository.findAllByOrderByWriteDateDesc();
+        List<Post> posts = postStore.findAllOrderByWriteDateDesc();
+        postContentStore.load(posts);
+        return posts;
     }
 
-    // 특정 게시글 조회
+    // 특정 게시글 조회 (로컬 캐시 → 저장소)
     public Optional<Post> getPostById(Long id) {
-        return postRepository.findById(id);
+        return postCache.get(id, this::loadPost);
+    }
+
+    // 여러 게시글 일괄 조회 (로컬 캐시에 없는 id 만 IN 쿼리 한 번, 결과 순서는 보장하지 않음)
+    public List<Post> getPostsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return postCache.getAll(ids, this::loadPosts);
+    }
+
+    // 필터 목록 (작성자 / 작성 기간, keyset 커서 이후 최대 limit 개, 분리 저장된 본문은 한 번에 로드)
+    public List<Post> searchPosts(PostFilter filter, int limit) {
+        List<Post> posts = postStore.findFiltered(filter, limit);
+        postContentStore.load(posts);
+        return posts;
     }
 
     // 게시글 작성
     @Transactional // 쓰기 작업이므로 readOnly = false (기본값)
     public Post createPost(Post post) {
         post.setWriteDate(LocalDateTime.now());
-        return postRepository.save(post);
+        postContentStore.assign(post, post.getContent());
+        Post savedPost = postStore.save(post);
+        postContentStore.write(savedPost, false);
+        authorPostSummaryService.recordCreated(savedPost);
+        publish(PostChangedEvent.created(savedPost));
+        return savedPost;
     }
 
     // 게시글 수정
     @Transactional // 쓰기 작업이므로 readOnly = false (기본값)
     public Post updatePost(Long id, PostRequestDto postRequestDto) {
         // 기존 게시글 조회
-        Post existingPost = postRepository.findById(id)
+        Post existingPost = postStore.findById(id)
             .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다"));
         
         // 비밀번호 검증
         if (!existingPost.getPassword().equals(postRequestDto.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다");
+            throw new InvalidPostPasswordException();
         }
         
         // 게시글 정보 업데이트
+        String previousAuthor = existingPost.getAuthor();
         existingPost.setTitle(postRequestDto.getTitle());
         existingPost.setAuthor(postRequestDto.getAuthor());
-        existingPost.setContent(postRequestDto.getContent());
+        boolean wasExternal = existingPost.isContentExternal();
+        postContentStore.assign(existingPost, postRequestDto.getContent());
         
-        return postRepository.save(existingPost);
+        Post updatedPost = postStore.save(existingPost);
+        postContentStore.write(updatedPost, wasExternal);
+        postCache.invalidate(id);
+        if (!previousAuthor.equals(updatedPost.getAuthor())) {
+            authorPostSummaryService.recordAuthorChanged(previousAuthor, updatedPost);
+        }
+        publish(PostChangedEvent.updated(updatedPost));
+        return updatedPost;
     }
 
     // 게시글 삭제
     @Transactional // 쓰기 작업이므로 readOnly = false (기본값)
     public void deletePost(Long id, PostRequestDto postRequestDto) {
         // 기존 게시글 조회
-        Post existingPost = postRepository.findById(id)
+        Post existingPost = postStore.findById(id)
             .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다"));
 
         // 비밀번호 검증
         if (!existingPost.getPassword().equals(postRequestDto.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다");
+            throw new InvalidPostPasswordException();
         }
 
-        postRepository.deleteById(existingPost.getId());
+        // soft delete - Post 의 @SQLDelete 로 deleted_at 만 갱신, 본문 / 댓글의 실제 삭제는 PostPurgeJob 이 처리
+        postStore.deleteById(existingPost.getId());
+        postCache.invalidate(existingPost.getId());
+        authorPostSummaryService.recordDeleted(existingPost);
+        publish(PostChangedEvent.deleted(existingPost.getId()));
         // 성공적으로 삭제되면 void  (예외가 발생하지 않으면 성공으로 간주)
     }
+
+    // 아웃박스 기록 (트랜잭션과 함께 커밋) + 같은 JVM 안의 리스너용 이벤트 발행
+    private void publish(PostChangedEvent event) {
+        postOutbox.append(event);
+        eventPublisher.publishEvent(event);
+    }
+
+    private List<Post> loadPosts(Collection<Long> ids) {
+        List<Post> posts = postStore.findAllById(ids);
+        postContentStore.load(posts);
+        return posts;
+    }
+
+    private Optional<Post> loadPost(Long id) {
+        Optional<Post> post = postStore.findById(id);
+        post.ifPresent(found -> postContentStore.load(List.of(found)));
+        return post;
+    }
 }
@@ -0,0 +1,224 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.dto.PostViewCountDto;
+import com.example.studylearnspringposts.event.PostChangedEvent;
+import com.example.studylearnspringposts.event.PostEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 집계
+ * - 조회 시에는 게시글별 LongAdder 만 증가 (DB 행 잠금도, 맵 잠금도 없음 - 같은 글을 동시에 조회해도 경합이 셀 단위로 분산됨)
+ * - 한 주기 동안 조회가 없었던 글은 flush 가 맵에서 떼어냄
+ *   - 떼어낸 adder 에 늦게 들어온 증가분은 flush 와 조회 쪽 중 나중에 본 쪽이 sumThenReset 으로 꺼내서 새 adder 에 다시 더함
+ *     (셀 단위 getAndSet 이라 증가분 하나는 정확히 한 번만 꺼내짐 → 유실 / 중복 없음)
+ * - 주기적으로 쌓인 증가분을 UPDATE post SET views = views + ? 배치로 반영
+ * - 가장 많이 조회된 게시글 top-K 는 메모리의 최소 힙으로 유지하고, 조회 API 는 정렬된 스냅샷만 읽음
+ * - DB 의 views 는 flush 주기만큼 늦게 반영됨, 반영된 게시글은 이 노드의 PostCache 에서 제거
+ */
+@Component
+public class PostViewCounter {
+    private static final Logger log = LoggerFactory.getLogger(PostViewCounter.class);
+
+    private static final String INCREMENT_SQL = "UPDATE post SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostCache postCache;
+    private final int batchSize;
+    private final int topK;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // top-K: views 가 가장 작은 항목이 head 인 힙 + 멤버 조회용 맵 (rankingLock 으로 보호)
+    private final PriorityQueue<PostViewCountDto> heap =
+            new PriorityQueue<>(Comparator.comparingLong(PostViewCountDto::getViews));
+    private final Map<Long, PostViewCountDto> ranked = new HashMap<>();
+    private final Object rankingLock = new Object();
+    private volatile List<PostViewCountDto> ranking = List.of();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, PostCache postCache,
+                           @Value("${post.views.batch-size:500}") int batchSize,
+                           @Value("${post.views.top-k:100}") int topK) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postCache = postCache;
+        this.batchSize = batchSize;
+        this.topK = topK;
+    }
+
+    /**
+     * 조회 1회 기록
+     */
+    public void record(Long postId) {
+        add(postId, 1);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long getPending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 조회수 상위 게시글 (views 내림차순, 최대 top-K 개)
+     */
+    public List<PostViewCountDto> getMostViewed(int limit) {
+        List<PostViewCountDto> snapshot = ranking;
+        return snapshot.size() <= limit ? snapshot : snapshot.subList(0, limit);
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRanking() {
+        List<PostViewCountDto> top = jdbcTemplate.query(
+                "SELECT id, views FROM post WHERE deleted_at IS NULL ORDER BY views DESC LIMIT ?",
+                (rs, rowNum) -> new PostViewCountDto(rs.getLong("id"), rs.getLong("views")), topK);
+        updateRanking(top);
+    }
+
+    /**
+     * 쌓인 증가분을 배치 UPDATE 로 반영
+     * - 증가분만큼 adder 에서 빼므로 반영 중에 들어온 조회는 다음 flush 로 넘어감
+     * - 실패한 배치는 증가분을 다시 더해서 다음 flush 에서 재시도
+     */
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없었던 글은 맵에서 떼어내고, 그 사이 들어온 증가분은 새 adder 로 옮김
+                if (pending.remove(entry.getKey(), adder)) {
+                    long late = adder.sumThenReset();
+                    if (late != 0) {
+                        add(entry.getKey(), late);
+                    }
+                }
+                continue;
+            }
+            adder.add(-delta);
+            deltas.add(new Object[]{delta, entry.getKey()});
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 여러 인스턴스가 동시에 반영할 때 행 잠금 순서를 맞추기 위해 id 순으로 정렬
+        deltas.sort(Comparator.comparingLong((Object[] args) -> (Long) args[1]));
+
+        List<Long> flushedIds = new ArrayList<>(deltas.size());
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Object[]> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                jdbcTemplate.batchUpdate(INCREMENT_SQL, batch);
+                batch.forEach(args -> flushedIds.add((Long) args[1]));
+            } catch (DataAccessException e) {
+                log.warn("조회수 반영 실패 - {}건은 다음 주기에 재시도", batch.size(), e);
+                batch.forEach(args -> add((Long) args[1], (Long) args[0]));
+            }
+        }
+        // 다른 노드는 각자 flush 할 때 자기 캐시를 비우므로 무효화는 전파하지 않음
+        postCache.evictLocal(flushedIds);
+        refreshRanking(flushedIds);
+    }
+
+    /**
+     * 삭제된 게시글은 집계 / 순위에서 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostEventType.DELETED) {
+            return;
+        }
+        pending.remove(event.getPostId());
+        synchronized (rankingLock) {
+            PostViewCountDto removed = ranked.remove(event.getPostId());
+            if (removed != null) {
+                heap.remove(removed);
+                publishRanking();
+            }
+        }
+    }
+
+    // 맵의 adder 에 더하고, 더하는 사이 flush 가 그 adder 를 떼어냈으면 남은 값을 꺼내서 새 adder 에 다시 더함
+    private void add(Long postId, long delta) {
+        long remaining = delta;
+        while (true) {
+            LongAdder adder = pending.get(postId);
+            if (adder == null) {
+                adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            }
+            adder.add(remaining);
+            if (pending.get(postId) == adder) {
+                return;
+            }
+            remaining = adder.sumThenReset();
+            if (remaining == 0) {
+                return; // flush 가 이미 꺼내서 옮김
+            }
+        }
+    }
+
+    // 방금 반영한 게시글들의 누적 조회수를 읽어서 top-K 에 병합
+    private void refreshRanking(List<Long> ids) {
+        List<PostViewCountDto> totals = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            totals.addAll(jdbcTemplate.query(
+                    "SELECT id, views FROM post WHERE deleted_at IS NULL AND id IN (" + placeholders + ")",
+                    (rs, rowNum) -> new PostViewCountDto(rs.getLong("id"), rs.getLong("views")),
+                    chunk.toArray()));
+        }
+        updateRanking(totals);
+    }
+
+    private void updateRanking(List<PostViewCountDto> totals) {
+        synchronized (rankingLock) {
+            for (PostViewCountDto total : totals) {
+                PostViewCountDto previous = ranked.get(total.getId());
+                if (previous != null) {
+                    heap.remove(previous);
+                } else if (heap.size() >= topK) {
+                    if (total.getViews() <= heap.peek().getViews()) {
+                        continue;
+                    }
+                    ranked.remove(heap.poll().getId());
+                }
+                heap.add(total);
+                ranked.put(total.getId(), total);
+            }
+            publishRanking();
+        }
+    }
+
+    private void publishRanking() {
+        List<PostViewCountDto> sorted = new ArrayList<>(heap);
+        sorted.sort(Comparator.comparingLong(PostViewCountDto::getViews).reversed()
+                .thenComparing(PostViewCountDto::getId));
+        ranking = Collections.unmodifiableList(sorted);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.post.vo.PostRow;
+import com.example.studylearnspringposts.dto.PostResponseDto;
+import com.example.studylearnspringposts.exception.PostNotFoundException;
+import com.example.studylearnspringposts.repository.ReactivePostRepository;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 조회 서비스의 리액티브 버전 (R2DBC)
+ * - PostService 는 클래스 단위 @Transactional(JPA) 이 걸려 있어서 Flux/Mono 를 반환하는 메서드를 같은 클래스에 두지 않음
+ * - 쓰기는 이벤트 발행 등 기존 흐름을 그대로 타도록 PostService 를 사용
+ * - post_content 로 분리 저장된 본문은 CONTENT_BATCH_SIZE 개씩 묶어서 IN 쿼리로 채움
+ */
+@Service
+public class ReactivePostService {
+    private static final int CONTENT_BATCH_SIZE = 100;
+
+    private final ReactivePostRepository reactivePostRepository;
+    private final DatabaseClient databaseClient;
+
+    public ReactivePostService(ReactivePostRepository reactivePostRepository, DatabaseClient databaseClient) {
+        this.reactivePostRepository = reactivePostRepository;
+        this.databaseClient = databaseClient;
+    }
+
+    // 전체 게시글 조회 (작성 날짜 기준 내림차순)
+    public Flux<PostResponseDto> getAllPosts() {
+        return reactivePostRepository.findAllByDeletedAtIsNullOrderByWriteDateDesc()
+                .buffer(CONTENT_BATCH_SIZE)
+                .concatMap(this::loadExternalContents)
+                .map(ReactivePostService::toResponse);
+    }
+
+    // 특정 게시글 조회
+    public Mono<PostResponseDto> getPostById(Long id) {
+        return reactivePostRepository.findByIdAndDeletedAtIsNull(id)
+                .flatMap(row -> loadExternalContents(List.of(row)).next())
+                .map(ReactivePostService::toResponse)
+                .switchIfEmpty(Mono.error(() -> new PostNotFoundException(id)));
+    }
+
+    private Flux<PostRow> loadExternalContents(List<PostRow> rows) {
+        List<Long> ids = new ArrayList<>();
+        for (PostRow row : rows) {
+            if (row.isContentExternal()) {
+                ids.add(row.getId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return Flux.fromIterable(rows);
+        }
+        return databaseClient.sql("SELECT post_id, data, compressed FROM post_content WHERE post_id IN (:ids)")
+                .bind("ids", ids)
+                .map((row, metadata) -> Map.entry(
+                        row.get("post_id", Long.class),
+                        PostContentStore.decode(row.get("data", byte[].class), Boolean.TRUE.equals(row.get("compressed", Boolean.class)))))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .flatMapMany(contents -> {
+                    for (PostRow row : rows) {
+                        if (row.isContentExternal()) {
+                            row.setContent(contents.get(row.getId()));
+                        }
+                    }
+                    return Flux.fromIterable(rows);
+                });
+    }
+
+    private static PostResponseDto toResponse(PostRow row) {
+        return PostResponseDto.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .author(row.getAuthor())
+                .content(row.getContent())
+                .writeDate(row.getWriteDate())
+                .views(row.getViews() != null ? row.getViews() : 0L)
+                .build();
+    }
+}
@@ -4,10 +4,16 @@ import com.example.studylearnspringposts.domain.user.vo.User;
 import com.example.studylearnspringposts.dto.UserRequestDto;
 import com.example.studylearnspringposts.dto.UserResponseDto;
 import com.example.studylearnspringposts.repository.MyRepository;
+import com.example.studylearnspringposts.security.TokenDenylist;
 import com.example.studylearnspringposts.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -19,27 +25,62 @@ public class UserService {
     private final MyRepository myRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final JwtUtil jwtUtil;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final UsernameFilter usernameFilter;
+    private final TokenDenylist tokenDenylist;
 
-    public UserService(MyRepository myRepository, BCryptPasswordEncoder bCryptPasswordEncoder, JwtUtil jwtUtil) {
+    public UserService(MyRepository myRepository, BCryptPasswordEncoder bCryptPasswordEncoder, JwtUtil jwtUtil,
+                       CustomUserDetailsService customUserDetailsService, UsernameFilter usernameFilter,
+                       TokenDenylist tokenDenylist) {
         this.myRepository = myRepository;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
         this.jwtUtil = jwtUtil;
+        this.customUserDetailsService = customUserDetailsService;
+        this.usernameFilter = usernameFilter;
+        this.tokenDenylist = tokenDenylist;
     }
 
     public void signup(UserRequestDto userRequestDto) {
-        // 회원이존재하는지 검증
-        boolean isExist = myRepository.existsByUsername(userRequestDto.getUsername());
+        String username = userRequestDto.getUsername();
 
-        if (isExist) {
+        // 블룸 필터가 "확실히 없음" 이라고 하면 중복 체크 쿼리 없이 바로 저장
+        // "있을 수도 있음" 일 때만 BCrypt 인코딩 전에 중복 체크
+        if (usernameFilter.mightExist(username) && myRepository.existsByUsername(username)) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "이미존재하는 사용자입니다.");
         }
 
         User newUser = new User();
-        newUser.setUsername(userRequestDto.getUsername());
+        newUser.setUsername(username);
         newUser.setPassword(bCryptPasswordEncoder.encode(userRequestDto.getPassword()));
         newUser.setRole("ROLE_USER");
 
-        myRepository.save(newUser);
+        // 동시에 같은 이름으로 가입하는 경우는 unique 제약조건 위반으로 판단
+        try {
+            myRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미존재하는 사용자입니다.");
+        }
+        usernameFilter.add(username);
+    }
+
+    // 비밀번호 변경 - 캐시된 UserDetails 도 함께 제거
+    @Transactional
+    public void changePassword(String username, String newPassword) {
+        User user = myRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
+        user.setPassword(bCryptPasswordEncoder.encode(newPassword));
+        myRepository.save(user);
+        customUserDetailsService.evict(username);
+    }
+
+    // 권한 변경 - 캐시된 UserDetails 도 함께 제거
+    @Transactional
+    public void changeRole(String username, String role) {
+        User user = myRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
+        user.setRole(role);
+        myRepository.save(user);
+        customUserDetailsService.evict(username);
     }
 
     public List<User> getAllUsers() {
@@ -57,6 +98,11 @@ public class UserService {
     
     // JWT 로그인
     public UserResponseDto loginWithJwt(String username, String password) {
+        // 블룸 필터로 확실히 없는 사용자는 DB 조회 없이 거절
+        if (!usernameFilter.mightExist(username)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다");
+        }
+
         // 사용자 조회
         Optional<User> userOptional = myRepository.findByUsername(username);
         
@@ -71,13 +117,80 @@ public class UserService {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다");
         }
         
-        // JWT 토큰 생성
+        // JWT 토큰 생성 (짧은 액세스 토큰 + 재발급용 리프레시 토큰)
         String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
         
-        return UserResponseDto.successWithToken(
+        UserResponseDto response = UserResponseDto.successWithToken(
             user, 
             token, 
             "로그인이 성공적으로 완료되었습니다"
         );
+        response.setRefreshToken(jwtUtil.generateRefreshToken(user.getUsername()));
+        return response;
+    }
+
+    /**
+     * 토큰 재발급
+     * - 리프레시 토큰은 한 번만 사용 가능 (사용 즉시 폐기하고 새 리프레시 토큰 발급)
+     * - 이미 사용된 리프레시 토큰이 다시 들어오면 거절
+     * - 권한은 토큰이 아닌 현재 사용자 정보 기준으로 다시 넣음
+     */
+    public UserResponseDto refresh(String refreshToken) {
+        Claims claims = parse(refreshToken, JwtUtil.REFRESH_TOKEN);
+        if (!tokenDenylist.revoke(claims.getId(), claims.getExpiration().getTime())) {
+            throw new IllegalArgumentException("이미 사용되었거나 폐기된 토큰입니다");
+        }
+
+        String username = claims.getSubject();
+        CustomUserDetailsService.CustomUserPrincipal principal;
+        try {
+            principal = (CustomUserDetailsService.CustomUserPrincipal) customUserDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다");
+        }
+
+        return UserResponseDto.successWithTokens(
+            username,
+            principal.getRole(),
+            jwtUtil.generateToken(username, principal.getRole()),
+            jwtUtil.generateRefreshToken(username),
+            "토큰이 재발급되었습니다"
+        );
+    }
+
+    /**
+     * 로그아웃 - 전달된 액세스 / 리프레시 토큰을 만료 시각까지 폐기
+     */
+    public void logout(String accessToken, String refreshToken) {
+        Claims access = parse(accessToken, JwtUtil.ACCESS_TOKEN);
+        tokenDenylist.revoke(access.getId(), access.getExpiration().getTime());
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            Claims refresh = parse(refreshToken, JwtUtil.REFRESH_TOKEN);
+            if (!refresh.getSubject().equals(access.getSubject())) {
+                throw new IllegalArgumentException("토큰 사용자가 일치하지 않습니다");
+            }
+            tokenDenylist.revoke(refresh.getId(), refresh.getExpiration().getTime());
+        }
+    }
+
+    // 서명 / 만료 / 토큰 종류 / 폐기 여부 확인
+    private Claims parse(String token, String expectedType) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("토큰이 없습니다");
+        }
+        Claims claims;
+        try {
+            claims = jwtUtil.getAllClaimsFromToken(token);
+        } catch (JwtException e) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다");
+        }
+        if (!expectedType.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class))) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다");
+        }
+        if (tokenDenylist.isRevoked(claims.getId())) {
+            throw new IllegalArgumentException("이미 사용되었거나 폐기된 토큰입니다");
+        }
+        return claims;
     }
 }
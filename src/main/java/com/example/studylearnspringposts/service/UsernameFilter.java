@@ -0,0 +1,95 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.cache.CacheInvalidationBus;
+import com.example.studylearnspringposts.repository.MyRepository;
+import com.example.studylearnspringposts.util.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 가입된 username 블룸 필터
+ * - 애플리케이션 시작 시 users 테이블로 만들고, 회원가입 시 추가
+ * - "확실히 없는" username 은 DB 조회 없이 판단 (존재하지 않는 사용자 로그인, 사용 가능한 이름으로 가입)
+ * - 필터가 만들어지기 전에는 모든 이름을 "있을 수도 있음" 으로 처리해서 DB 로 넘김
+ * - 가입한 username 은 CacheInvalidationBus 로 다른 인스턴스에도 전달해서 각자 필터에 추가
+ *   - 전송이 늦는 동안(batch-interval-ms) 다른 인스턴스에서는 로그인이 거절될 수 있음
+ *   - 전송이 유실돼도 rebuild-interval-ms 마다 DB 로 다시 만들어서 복구
+ */
+@Component
+public class UsernameFilter {
+    private static final Logger log = LoggerFactory.getLogger(UsernameFilter.class);
+
+    public static final String NAME = "username";
+
+    private final MyRepository myRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    // 재생성 중에 가입한 사용자가 새 필터에서 빠지지 않도록 양쪽에 모두 추가
+    private volatile BloomFilter rebuilding;
+
+    public UsernameFilter(MyRepository myRepository, CacheInvalidationBus invalidationBus,
+                          @Value("${user.username-filter.expected-users:100000}") long expectedUsers,
+                          @Value("${user.username-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.myRepository = myRepository;
+        this.invalidationBus = invalidationBus;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        // 다른 인스턴스에서 가입한 username (이 노드에서 보낸 것도 전달되지만 중복 추가는 무해)
+        invalidationBus.subscribe(NAME, usernames -> usernames.forEach(this::put));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${user.username-filter.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${user.username-filter.rebuild-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long userCount = myRepository.count();
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedUsers, userCount * 2), falsePositiveRate);
+        rebuilding = rebuilt;
+        try (Stream<String> usernames = myRepository.streamAllUsernames()) {
+            usernames.forEach(rebuilt::put);
+        }
+        bloomFilter = rebuilt;
+        rebuilding = null;
+        log.info("username 블룸 필터 생성 완료 - users={}, bits={}, hashes={}",
+                userCount, rebuilt.getBitCount(), rebuilt.getHashCount());
+    }
+
+    /**
+     * false 면 확실히 없는 사용자, true 면 DB 확인이 필요함
+     */
+    public boolean mightExist(String username) {
+        BloomFilter current = bloomFilter;
+        return current == null || username == null || current.mightContain(username);
+    }
+
+    /**
+     * 가입한 username 추가 - 이 노드에 바로 반영하고 다른 인스턴스로도 전송
+     */
+    public void add(String username) {
+        put(username);
+        invalidationBus.invalidate(NAME, username);
+    }
+
+    private void put(String username) {
+        BloomFilter building = rebuilding;
+        if (building != null) {
+            building.put(username);
+        }
+        BloomFilter current = bloomFilter;
+        if (current != null) {
+            current.put(username);
+        }
+    }
+}
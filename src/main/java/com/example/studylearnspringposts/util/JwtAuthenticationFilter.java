@@ -0,0 +1,63 @@
+package com.example.studylearnspringposts.util;
+
+import com.example.studylearnspringposts.security.TokenDenylist;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authorization: Bearer 액세스 토큰 인증 필터
+ * - 서명/만료 검증은 JwtUtil, 폐기 여부는 TokenDenylist 로 확인 (DB 조회 없음)
+ * - 리프레시 토큰이나 폐기된 토큰은 인증 정보 없이 다음 필터로 넘김 (인가 단계에서 거절)
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final TokenDenylist tokenDenylist;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenDenylist tokenDenylist) {
+        this.jwtUtil = jwtUtil;
+        this.tokenDenylist = tokenDenylist;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            authenticate(header.substring(BEARER_PREFIX.length()).trim());
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token) {
+        Claims claims;
+        try {
+            claims = jwtUtil.getAllClaimsFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        if (!JwtUtil.ACCESS_TOKEN.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class))
+                || tokenDenylist.isRevoked(claims.getId())) {
+            return;
+        }
+
+        String role = claims.get("role", String.class);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                claims.getSubject(), null,
+                role != null ? List.of(new SimpleGrantedAuthority(role)) : List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -1,86 +1,101 @@
 package com.example.studylearnspringposts.util;
 
+import com.example.studylearnspringposts.security.JwtKeyRing;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
-    
-    @Value("${jwt.secret:mySecretKey12345678901234567890123456789012345}")
-    private String secret;
-    
-    @Value("${jwt.expiration:86400000}") // 24시간 (밀리초)
-    private Long expiration;
-    
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    @Value("${jwt.access-expiration:900000}") // 15분 (밀리초)
+    private Long accessExpiration;
+
+    @Value("${jwt.refresh-expiration:1209600000}") // 14일 (밀리초)
+    private Long refreshExpiration;
+
+    private final JwtKeyRing keyRing;
+    // 파서는 불변 / 스레드 안전하므로 한 번만 생성, 검증 키는 헤더의 kid 로 keyRing 에서 조회
+    private final JwtParser parser;
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser().keyLocator(keyRing).build();
     }
-    
+
     // 토큰에서 사용자 이름 추출
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
     }
-    
+
     // 토큰에서 만료 시간 추출
     public Date getExpirationDateFromToken(String token) {
         return getClaimFromToken(token, Claims::getExpiration);
     }
-    
+
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = getAllClaimsFromToken(token);
         return claimsResolver.apply(claims);
     }
-    
-    // 토큰에서 모든 정보 추출
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+
+    // 토큰 서명 / 만료 검증 후 모든 정보 추출 (실패 시 JwtException)
+    public Claims getAllClaimsFromToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
-    
+
     // 토큰 만료 확인
     private Boolean isTokenExpired(String token) {
         final Date expiration = getExpirationDateFromToken(token);
         return expiration.before(new Date());
     }
-    
-    // 사용자 정보로 토큰 생성
+
+    // 사용자 정보로 액세스 토큰 생성
     public String generateToken(String username, String role) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
-        return createToken(claims, username);
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN);
+        return createToken(claims, username, accessExpiration);
+    }
+
+    // 리프레시 토큰 생성 (역할은 재발급 시점에 다시 조회하므로 넣지 않음)
+    public String generateRefreshToken(String username) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN);
+        return createToken(claims, username, refreshExpiration);
     }
-    
-    // 토큰 생성
-    private String createToken(Map<String, Object> claims, String subject) {
-        return Jwts.builder()
+
+    // 토큰 생성 - 폐기(revocation) 처리를 위해 토큰마다 고유 id(jti) 부여, 서명은 현재 활성 키(kid 헤더 포함)
+    private String createToken(Map<String, Object> claims, String subject, long validityMillis) {
+        long now = System.currentTimeMillis();
+        return keyRing.sign(Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + validityMillis)))
                 .compact();
     }
-    
+
     // 토큰 유효성 검증
     public Boolean validateToken(String token, String username) {
         final String tokenUsername = getUsernameFromToken(token);
         return (tokenUsername.equals(username) && !isTokenExpired(token));
     }
-    
+
     // 토큰에서 역할 추출
     public String getRoleFromToken(String token) {
         return getAllClaimsFromToken(token).get("role", String.class);
     }
-} 
+}
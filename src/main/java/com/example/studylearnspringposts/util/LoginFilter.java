@@ -52,6 +52,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         
         // JWT 토큰 생성
         String token = jwtUtil.generateToken(username, role);
+        String refreshToken = jwtUtil.generateRefreshToken(username);
         
         // 응답 헤더에 토큰 추가
         response.addHeader("Authorization", "Bearer " + token);
@@ -64,6 +65,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         responseBody.put("username", username);
         responseBody.put("role", role);
         responseBody.put("token", token);
+        responseBody.put("refreshToken", refreshToken);
         responseBody.put("message", "로그인 성공");
         
         ObjectMapper objectMapper = new ObjectMapper();
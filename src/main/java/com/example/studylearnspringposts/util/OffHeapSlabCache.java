@@ -0,0 +1,273 @@
+package com.example.studylearnspringposts.util;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 바이트 용량 기준 off-heap 캐시 (long 키 → byte[] 값)
+ * - 값은 direct ByteBuffer 슬랩을 blockSize 단위로 나눈 블록에 저장하고, 힙에는 키별 블록 번호만 둠
+ *   (큰 본문이 GC 가 훑는 힙에 머물지 않음)
+ * - 슬랩은 공간이 모자랄 때 하나씩 할당하고 전체 용량(capacityBytes)을 넘지 않음
+ * - 용량이 차면 CLOCK 으로 제거: 마지막 순회 이후 조회된 항목은 참조 비트만 지우고 한 바퀴 유예
+ * - 만료된 항목은 조회 시점 또는 CLOCK 이 지나갈 때 제거
+ * - 모든 연산은 synchronized, 조회는 블록 내용을 새 byte[] 로 복사해서 반환
+ * - 한 번 할당한 슬랩은 반환하지 않음 (direct 메모리는 캐시 객체가 GC 될 때 해제)
+ */
+public class OffHeapSlabCache {
+
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int maxSlabs;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // 비어 있는 블록 번호 스택
+    private final int[] freeBlocks;
+    private int freeBlockCount;
+
+    // CLOCK 순회용 슬롯 배열 (제거된 자리는 null, 빈 슬롯 번호는 스택으로 재사용)
+    private Entry[] ring = new Entry[64];
+    private int ringEnd;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private int hand;
+
+    private long usedBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param capacityBytes 전체 off-heap 용량 (슬랩 크기의 배수로 내림, 최소 슬랩 1개)
+     * @param slabBytes     한 번에 할당하는 direct ByteBuffer 크기 (blockSize 의 배수로 내림)
+     * @param blockSize     값을 나눠 담는 단위, 값 하나의 마지막 블록에서 남는 만큼이 낭비됨
+     */
+    public OffHeapSlabCache(long capacityBytes, int slabBytes, int blockSize, Duration ttl) {
+        this(capacityBytes, slabBytes, blockSize, ttl, System::nanoTime);
+    }
+
+    OffHeapSlabCache(long capacityBytes, int slabBytes, int blockSize, Duration ttl, LongSupplier nanoClock) {
+        if (blockSize <= 0 || slabBytes < blockSize) {
+            throw new IllegalArgumentException("슬랩 크기는 블록 크기 이상이어야 합니다");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSlab = slabBytes / blockSize;
+        this.maxSlabs = (int) Math.max(1, capacityBytes / ((long) blocksPerSlab * blockSize));
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.freeBlocks = new int[Math.multiplyExact(maxSlabs, blocksPerSlab)];
+    }
+
+    public synchronized byte[] get(long key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(nanoClock.getAsLong())) {
+            remove(entry);
+            misses.incrementAndGet();
+            return null;
+        }
+        entry.referenced = true;
+        hits.incrementAndGet();
+        return read(entry);
+    }
+
+    /**
+     * 저장 (같은 키의 이전 값은 교체), 값이 전체 용량보다 크면 저장하지 않고 false
+     */
+    public synchronized boolean put(long key, byte[] value) {
+        Entry previous = entries.get(key);
+        if (previous != null) {
+            remove(previous);
+        }
+        int needed = (value.length + blockSize - 1) / blockSize;
+        if (needed > freeBlocks.length) {
+            return false;
+        }
+        Entry entry = new Entry(key, allocate(needed), value.length, nanoClock.getAsLong() + ttlNanos);
+        write(entry, value);
+        entry.slot = takeSlot(entry);
+        entries.put(key, entry);
+        usedBytes += value.length;
+        return true;
+    }
+
+    public synchronized void invalidate(long key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        Arrays.fill(ring, 0, ringEnd, null);
+        ringEnd = 0;
+        freeSlotCount = 0;
+        hand = 0;
+        usedBytes = 0;
+        freeBlockCount = 0;
+        for (int block = slabs.size() * blocksPerSlab - 1; block >= 0; block--) {
+            freeBlocks[freeBlockCount++] = block;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 저장된 값의 바이트 합계 (블록 안에서 남는 공간 제외)
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * 지금까지 할당한 슬랩 크기 합계 (실제로 잡고 있는 direct 메모리)
+     */
+    public synchronized long getAllocatedBytes() {
+        return (long) slabs.size() * blocksPerSlab * blockSize;
+    }
+
+    public long getCapacityBytes() {
+        return (long) maxSlabs * blocksPerSlab * blockSize;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    private int[] allocate(int needed) {
+        while (freeBlockCount < needed) {
+            if (slabs.size() < maxSlabs) {
+                addSlab();
+            } else {
+                evictOne();
+            }
+        }
+        int[] blocks = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            blocks[i] = freeBlocks[--freeBlockCount];
+        }
+        return blocks;
+    }
+
+    private void addSlab() {
+        int first = slabs.size() * blocksPerSlab;
+        slabs.add(ByteBuffer.allocateDirect(blocksPerSlab * blockSize));
+        for (int block = first + blocksPerSlab - 1; block >= first; block--) {
+            freeBlocks[freeBlockCount++] = block;
+        }
+    }
+
+    // 참조 비트가 꺼진 (또는 만료된) 항목을 만날 때까지 바늘을 돌림, 지나친 항목은 참조 비트를 끔
+    private void evictOne() {
+        long now = nanoClock.getAsLong();
+        while (true) {
+            if (hand >= ringEnd) {
+                hand = 0;
+            }
+            Entry entry = ring[hand++];
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced && !entry.isExpired(now)) {
+                entry.referenced = false;
+                continue;
+            }
+            remove(entry);
+            evictions.incrementAndGet();
+            return;
+        }
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.key);
+        for (int block : entry.blocks) {
+            freeBlocks[freeBlockCount++] = block;
+        }
+        ring[entry.slot] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = entry.slot;
+        usedBytes -= entry.length;
+    }
+
+    private int takeSlot(Entry entry) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (ringEnd == ring.length) {
+                ring = Arrays.copyOf(ring, ring.length * 2);
+            }
+            slot = ringEnd++;
+        }
+        ring[slot] = entry;
+        return slot;
+    }
+
+    private void write(Entry entry, byte[] value) {
+        int offset = 0;
+        for (int block : entry.blocks) {
+            int length = Math.min(blockSize, value.length - offset);
+            slabs.get(block / blocksPerSlab).put((block % blocksPerSlab) * blockSize, value, offset, length);
+            offset += length;
+        }
+    }
+
+    private byte[] read(Entry entry) {
+        byte[] value = new byte[entry.length];
+        int offset = 0;
+        for (int block : entry.blocks) {
+            int length = Math.min(blockSize, entry.length - offset);
+            slabs.get(block / blocksPerSlab).get((block % blocksPerSlab) * blockSize, value, offset, length);
+            offset += length;
+        }
+        return value;
+    }
+
+    private static final class Entry {
+        private final long key;
+        private final int[] blocks;
+        private final int length;
+        private final long expiresAtNanos;
+        private int slot;
+        // 마지막 CLOCK 순회 이후 조회됐는지 - 넣기만 하고 조회되지 않은 항목이 먼저 제거됨
+        private boolean referenced;
+
+        private Entry(long key, int[] blocks, int length, long expiresAtNanos) {
+            this.key = key;
+            this.blocks = blocks;
+            this.length = length;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.studylearnspringposts.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * /api/v1/posts* 응답 압축 필터
+ * - Accept-Encoding 협상 결과에 따라 gzip / deflate 로 압축
+ * - min-size 보다 작은 응답은 압축하지 않음 (압축 이득보다 CPU 비용이 큼)
+ * - 단건 게시글 조회처럼 큰 응답은 압축본을 게시글별로 캐시해서 재압축하지 않음
+ */
+@Component
+public class PostCompressionFilter extends OncePerRequestFilter {
+
+    private static final String PATH_PREFIX = "/api/v1/posts";
+    private static final String STREAM_PATH = "/api/v1/posts/stream";
+    private static final Pattern SINGLE_POST_PATH = Pattern.compile("^/api/v1/posts/(\\d+)$");
+    private static final Pattern ATTACHMENT_PATH = Pattern.compile("^/api/v1/posts/\\d+/attachments(/.*)?$");
+
+    private final boolean enabled;
+    private final int minSize;
+    private final int precompressedMinSize;
+    private final Map<String, CompressedVariant> variants;
+
+    private final AtomicLong compressions = new AtomicLong();
+    private final AtomicLong variantHits = new AtomicLong();
+
+    public PostCompressionFilter(@Value("${post.compression.enabled:true}") boolean enabled,
+                                 @Value("${post.compression.min-size:1024}") int minSize,
+                                 @Value("${post.compression.precompressed-min-size:8192}") int precompressedMinSize,
+                                 @Value("${post.compression.cache-max-entries:512}") int cacheMaxEntries) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.precompressedMinSize = precompressedMinSize;
+        // 접근 순서 기반 LRU - 가장 오래 안 쓰인 압축본부터 제거
+        this.variants = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompressedVariant> eldest) {
+                return size() > cacheMaxEntries;
+            }
+        };
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        // SSE 스트림 / 첨부파일은 응답을 버퍼링하면 안 되므로 제외
+        return !enabled || !uri.startsWith(PATH_PREFIX) || uri.equals(STREAM_PATH)
+                || ATTACHMENT_PATH.matcher(uri).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        Encoding encoding = Encoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (!isCompressible(wrapper, body)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] compressed = compressedBody(request, body, encoding);
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token);
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    // 압축 통계 (벤치마크 / 모니터링용)
+    public long getCompressionCount() {
+        return compressions.get();
+    }
+
+    public long getVariantHitCount() {
+        return variantHits.get();
+    }
+
+    private boolean isCompressible(HttpServletResponse response, byte[] body) {
+        if (response.getStatus() != HttpServletResponse.SC_OK || body.length < minSize) {
+            return false;
+        }
+        if (response.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+        String contentType = response.getContentType();
+        return contentType != null && (contentType.startsWith("application/json") || contentType.startsWith("text/"));
+    }
+
+    private byte[] compressedBody(HttpServletRequest request, byte[] body, Encoding encoding) throws IOException {
+        String postId = singlePostId(request);
+        if (postId == null || body.length < precompressedMinSize) {
+            return compress(body, encoding);
+        }
+
+        // 게시글 본문이 바뀌면 CRC 가 달라지므로 별도 무효화 없이도 오래된 압축본을 쓰지 않음
+        CRC32 crc32 = new CRC32();
+        crc32.update(body);
+        long checksum = crc32.getValue();
+        String key = postId + ":" + encoding.token;
+
+        CompressedVariant variant;
+        synchronized (variants) {
+            variant = variants.get(key);
+        }
+        if (variant != null && variant.matches(body.length, checksum)) {
+            variantHits.incrementAndGet();
+            return variant.bytes;
+        }
+
+        byte[] compressed = compress(body, encoding);
+        synchronized (variants) {
+            variants.put(key, new CompressedVariant(body.length, checksum, compressed));
+        }
+        return compressed;
+    }
+
+    private String singlePostId(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return null;
+        }
+        Matcher matcher = SINGLE_POST_PATH.matcher(request.getRequestURI());
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private byte[] compress(byte[] body, Encoding encoding) throws IOException {
+        compressions.incrementAndGet();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream out = encoding == Encoding.GZIP
+                ? new GZIPOutputStream(buffer)
+                : new DeflaterOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    private record CompressedVariant(int rawLength, long checksum, byte[] bytes) {
+        boolean matches(int length, long crc) {
+            return rawLength == length && checksum == crc;
+        }
+    }
+
+    enum Encoding {
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        /**
+         * Accept-Encoding 헤더에서 사용할 인코딩 선택 (q=0 은 제외, 같은 q 면 gzip 우선)
+         */
+        static Encoding negotiate(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isBlank()) {
+                return null;
+            }
+            Encoding best = null;
+            double bestQuality = 0;
+            for (String part : acceptEncoding.split(",")) {
+                String[] tokens = part.trim().split(";");
+                String name = tokens[0].trim().toLowerCase();
+                double quality = 1.0;
+                for (int i = 1; i < tokens.length; i++) {
+                    String param = tokens[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            quality = Double.parseDouble(param.substring(2));
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                Encoding candidate = switch (name) {
+                    case "gzip", "x-gzip" -> GZIP;
+                    case "deflate" -> DEFLATE;
+                    default -> null;
+                };
+                if (candidate == null || quality <= 0) {
+                    continue;
+                }
+                if (quality > bestQuality || (quality == bestQuality && candidate == GZIP)) {
+                    best = candidate;
+                    bestQuality = quality;
+                }
+            }
+            return best;
+        }
+    }
+}
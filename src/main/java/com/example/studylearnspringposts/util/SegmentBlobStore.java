@@ -0,0 +1,265 @@
+package com.example.studylearnspringposts.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 내용 주소(SHA-256) 기반 append-only 세그먼트 파일 저장소
+ * - 레코드: [magic int][length long][sha256 32바이트][데이터], 세그먼트가 segmentSize 를 넘으면 다음 파일로
+ * - 업로드는 64KB 씩 임시 파일로 흘려보내면서 해시를 계산하고, 이미 있는 해시면 임시 파일만 지움 (중복 제거)
+ * - 읽기는 FileChannel.transferTo 로 필요한 구간만 전송 (데이터를 힙에 올리지 않음)
+ * - 해시 → 위치 인덱스는 메모리에만 두고, open 시 레코드 헤더만 훑어서 다시 만듦 (끊긴 마지막 레코드는 잘라냄)
+ * - 지워진 첨부의 blob 을 회수하는 compaction 은 없음
+ */
+public class SegmentBlobStore implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(SegmentBlobStore.class);
+
+    static final int MAGIC = 0x424C4F42; // "BLOB"
+    static final int HASH_LENGTH = 32;
+    static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES + HASH_LENGTH;
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Path dir;
+    private final long segmentSize;
+
+    private final Map<String, BlobLocation> index = new ConcurrentHashMap<>();
+    private final Map<Integer, FileChannel> readers = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private FileChannel writer;
+    private int writeSegment;
+
+    public SegmentBlobStore(Path dir, long segmentSize) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * 저장된 blob 위치
+     * @param dataOffset 세그먼트 파일 안에서 데이터가 시작하는 위치 (헤더 다음)
+     */
+    public record BlobLocation(String hash, int segment, long dataOffset, long length) {
+    }
+
+    /**
+     * 세그먼트 파일을 훑어서 인덱스 재구성 후 마지막 세그먼트를 append 용으로 연다
+     */
+    public void open() throws IOException {
+        Files.createDirectories(dir);
+        int lastSegment = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            lastSegment = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("segment-") && name.endsWith(".dat"))
+                    .mapToInt(name -> Integer.parseInt(name.substring(8, name.length() - 4)))
+                    .max().orElse(0);
+        }
+        for (int segment = 0; segment <= lastSegment; segment++) {
+            if (Files.exists(segmentPath(segment))) {
+                scan(segment);
+            }
+        }
+        synchronized (writeLock) {
+            writeSegment = lastSegment;
+            writer = openForAppend(writeSegment);
+        }
+        log.info("첨부파일 저장소 로드 완료 - blob {}개, 세그먼트 {}개", index.size(), lastSegment + 1);
+    }
+
+    /**
+     * 스트림을 저장하고 위치 반환 (같은 내용이 이미 있으면 기존 위치)
+     * @param maxBytes 이 크기를 넘으면 IllegalArgumentException
+     */
+    public BlobLocation put(InputStream in, long maxBytes) throws IOException {
+        Path temp = Files.createTempFile(dir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long length = 0;
+            try (DigestInputStream digestIn = new DigestInputStream(in, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[CHUNK_SIZE];
+                int read;
+                while ((read = digestIn.read(buffer)) != -1) {
+                    length += read;
+                    if (length > maxBytes) {
+                        throw new IllegalArgumentException("첨부파일은 " + maxBytes + " 바이트를 초과할 수 없습니다");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            byte[] hashBytes = digest.digest();
+            String hash = HexFormat.of().formatHex(hashBytes);
+
+            BlobLocation existing = index.get(hash);
+            if (existing != null) {
+                return existing;
+            }
+            synchronized (writeLock) {
+                existing = index.get(hash);
+                if (existing != null) {
+                    return existing;
+                }
+                return append(temp, hash, hashBytes, length);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public BlobLocation find(String hash) {
+        return index.get(hash);
+    }
+
+    /**
+     * blob 의 [offset, offset + count) 구간을 target 으로 전송 (커널이 지원하면 복사 없이 전송)
+     */
+    public void transferTo(BlobLocation location, long offset, long count, WritableByteChannel target)
+            throws IOException {
+        if (offset < 0 || count < 0 || offset + count > location.length()) {
+            throw new IllegalArgumentException("blob 범위를 벗어났습니다");
+        }
+        FileChannel channel = reader(location.segment());
+        long position = location.dataOffset() + offset;
+        long end = position + count;
+        while (position < end) {
+            long sent = channel.transferTo(position, end - position, target);
+            if (sent <= 0 && channel.size() < end) {
+                throw new IOException("세그먼트 파일이 예상보다 짧습니다: " + segmentPath(location.segment()));
+            }
+            position += sent;
+        }
+    }
+
+    public Path segmentPath(int segment) {
+        return dir.resolve(String.format("segment-%05d.dat", segment));
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    // writeLock 안에서 호출 - 헤더 기록 후 임시 파일을 그대로 이어 붙이고 fsync, 실패하면 기록 전 길이로 되돌림
+    private BlobLocation append(Path temp, String hash, byte[] hashBytes, long length) throws IOException {
+        if (writer.size() > 0 && writer.size() + HEADER_LENGTH + length > segmentSize) {
+            writer.close();
+            writeSegment++;
+            writer = openForAppend(writeSegment);
+        }
+        long start = writer.size();
+        try (FileChannel source = FileChannel.open(temp, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            header.putInt(MAGIC).putLong(length).put(hashBytes).flip();
+            while (header.hasRemaining()) {
+                writer.write(header, start + header.position());
+            }
+            long position = start + HEADER_LENGTH;
+            long copied = 0;
+            while (copied < length) {
+                long n = writer.transferFrom(source, position + copied, length - copied);
+                if (n <= 0) {
+                    throw new IOException("임시 파일이 예상보다 짧습니다");
+                }
+                copied += n;
+            }
+            writer.force(false);
+        } catch (IOException | RuntimeException e) {
+            writer.truncate(start);
+            throw e;
+        }
+        BlobLocation location = new BlobLocation(hash, writeSegment, start + HEADER_LENGTH, length);
+        index.put(hash, location);
+        return location;
+    }
+
+    private void scan(int segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            while (position < size) {
+                header.clear();
+                if (size - position < HEADER_LENGTH || channel.read(header, position) < HEADER_LENGTH) {
+                    break;
+                }
+                header.flip();
+                int magic = header.getInt();
+                long length = header.getLong();
+                byte[] hashBytes = new byte[HASH_LENGTH];
+                header.get(hashBytes);
+                if (magic != MAGIC || length < 0 || position + HEADER_LENGTH + length > size) {
+                    break;
+                }
+                String hash = HexFormat.of().formatHex(hashBytes);
+                index.putIfAbsent(hash, new BlobLocation(hash, segment, position + HEADER_LENGTH, length));
+                position += HEADER_LENGTH + length;
+            }
+            if (position < size) {
+                // 기록 도중 중단된 레코드 - 이후 append 가 올바른 위치에서 시작하도록 잘라냄
+                log.warn("첨부파일 세그먼트 {} 의 끊긴 레코드 제거 - {} 바이트", segment, size - position);
+                channel.truncate(position);
+            }
+        }
+    }
+
+    private FileChannel openForAppend(int segment) throws IOException {
+        return FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.READ);
+    }
+
+    private FileChannel reader(int segment) throws IOException {
+        FileChannel channel = readers.get(segment);
+        if (channel != null) {
+            return channel;
+        }
+        synchronized (readers) {
+            channel = readers.get(segment);
+            if (channel == null) {
+                channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ);
+                readers.put(segment, channel);
+            }
+            return channel;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        }
+        synchronized (readers) {
+            for (FileChannel channel : readers.values()) {
+                channel.close();
+            }
+            readers.clear();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.studylearnspringposts.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로드를 한 번으로 합침 (single-flight)
+ * - 먼저 온 호출만 loader 를 실행하고, 실행 중에 들어온 호출은 그 결과(또는 예외)를 같이 받음
+ * - 결과는 보관하지 않음 - 로드가 끝나면 키를 지우고, 이후 호출은 다시 실행 (캐시는 따로 둘 것)
+ * - 같은 인스턴스를 여러 호출자가 받으므로 값은 읽기 전용으로 다뤄야 함
+ * - loader 안에서 같은 키로 다시 호출하면 교착됨
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong sharedCalls = new AtomicLong();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            sharedCalls.incrementAndGet();
+            return join(inFlight);
+        }
+        executions.incrementAndGet();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    // loader 를 실제로 실행한 횟수
+    public long getExecutionCount() {
+        return executions.get();
+    }
+
+    // 다른 호출의 결과를 같이 받은 횟수
+    public long getSharedCount() {
+        return sharedCalls.get();
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // 먼저 실행한 호출이 던진 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
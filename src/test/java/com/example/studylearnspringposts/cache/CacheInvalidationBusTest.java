@@ -0,0 +1,144 @@
+package com.example.studylearnspringposts.cache;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.service.PostCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전달 수단 하나를 공유하는 버스 두 개로 노드 두 개를 흉내냄
+ */
+class CacheInvalidationBusTest {
+
+    private final List<InvalidationBatch> delivered = new ArrayList<>();
+    private final LocalInvalidationTransport transport = new LocalInvalidationTransport();
+    private final CacheInvalidationBus nodeA = new CacheInvalidationBus(transport, 2);
+    private final CacheInvalidationBus nodeB = new CacheInvalidationBus(transport, 2);
+    private final PostCache cacheA = new PostCache(nodeA, true, 100, 60, 4096, 1024 * 1024, 64 * 1024, 256);
+    private final PostCache cacheB = new PostCache(nodeB, true, 100, 60, 4096, 1024 * 1024, 64 * 1024, 256);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    {
+        transport.subscribe(delivered::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 노드에서 바뀐 게시글은 flush 후 다른 노드에서도 그 키만 제거된다")
+    void shouldEvictOnlyChangedKeyOnOtherNode() {
+        cacheA.get(1L, this::load);
+        cacheB.get(1L, this::load);
+        cacheB.get(2L, this::load);
+        assertThat(loads).hasValue(3);
+
+        cacheA.invalidate(1L);
+
+        cacheA.get(1L, this::load);       // 이 노드는 바로 제거됨
+        assertThat(loads).hasValue(4);
+        cacheB.get(1L, this::load);       // 다른 노드는 아직 전송 전
+        assertThat(loads).hasValue(4);
+
+        nodeA.flush();
+
+        cacheB.get(1L, this::load);
+        cacheB.get(2L, this::load);
+        assertThat(loads).hasValue(5);
+        assertThat(nodeB.getReceivedKeyCount()).isEqualTo(1);
+        assertThat(nodeA.getReceivedKeyCount()).isZero(); // 자기가 보낸 묶음은 무시
+    }
+
+    @Test
+    @DisplayName("같은 키의 무효화는 합쳐지고, 키가 많으면 최대 개수씩 나눠서 보낸다")
+    void shouldCoalesceAndBatch() {
+        nodeA.invalidate(PostCache.NAME, 1L);
+        nodeA.invalidate(PostCache.NAME, 1L);
+        nodeA.invalidate(PostCache.NAME, 2L);
+        nodeA.invalidate(PostCache.NAME, 1L);
+        nodeA.invalidate(PostCache.NAME, 3L);
+
+        nodeA.flush();
+        nodeA.flush();
+
+        assertThat(delivered).hasSize(2);
+        assertThat(delivered).flatExtracting(InvalidationBatch::keys)
+                .containsExactlyInAnyOrder("post:1", "post:2", "post:3");
+        assertThat(nodeA.getSentKeyCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 끝난 뒤 처리하고, 롤백되면 다른 노드로 보내지 않는다")
+    void shouldDeferUntilTransactionCompletes() {
+        cacheA.get(1L, this::load);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cacheA.invalidate(1L);
+        cacheA.get(1L, this::load);
+        assertThat(loads).hasValue(1); // 커밋 전에는 그대로
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        nodeA.flush();
+        assertThat(delivered).isEmpty();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cacheA.invalidate(1L);
+        cacheA.invalidate(1L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        nodeA.flush();
+
+        assertThat(delivered).singleElement()
+                .satisfies(batch -> assertThat(batch.keys()).containsExactly("post:1"));
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화가 일어나면 읽은 값을 캐시에 남기지 않는다")
+    void shouldDropValueLoadedDuringInvalidation() {
+        cacheA.get(1L, id -> {
+            cacheA.invalidate(id);
+            return load(id);
+        });
+        cacheA.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 캐시하지 않고, 캐시된 값은 복사본으로 돌려준다")
+    void shouldNotCacheMissesAndReturnCopies() {
+        cacheA.get(99L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cacheA.get(99L, this::load);
+        assertThat(loads).hasValue(2);
+
+        cacheA.get(1L, this::load).orElseThrow().setTitle("바뀐 제목");
+        assertThat(cacheA.get(1L, this::load).orElseThrow().getTitle()).isEqualTo("게시글 1");
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Optional<Post> load(Long id) {
+        loads.incrementAndGet();
+        return Optional.of(Post.builder().id(id).title("게시글 " + id).author("작성자").password("pw")
+                .content("본문").views(0L).build());
+    }
+}
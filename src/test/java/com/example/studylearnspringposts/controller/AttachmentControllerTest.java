@@ -0,0 +1,157 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import com.example.studylearnspringposts.repository.PostAttachmentRepository;
+import com.example.studylearnspringposts.service.PostService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * AttachmentController 테스트
+ * - 업로드 권한 (게시글 비밀번호), 전체 / Range 다운로드, 삭제, 없는 게시글
+ * - blob 저장소는 테스트용 디렉터리를 쓰고, DB 행은 테스트 트랜잭션으로 롤백
+ */
+@SpringBootTest(properties = "post.attachments.dir=./build/test-attachments")
+@AutoConfigureMockMvc
+@Transactional
+@WithMockUser
+class AttachmentControllerTest {
+    private static final String PASSWORD = "attach1234";
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostAttachmentRepository postAttachmentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postService.createPost(
+                new PostRequestDto("첨부 테스트", "첨부작성자", PASSWORD, "내용").toEntity()).getId();
+    }
+
+    @Test
+    @DisplayName("업로드한 첨부파일을 전체 본문으로 내려받는다")
+    void shouldDownloadFullBody() throws Exception {
+        long attachmentId = upload(CONTENT);
+
+        mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}", postId, attachmentId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청은 206 과 해당 구간만 응답한다")
+    void shouldServeSingleRange() throws Exception {
+        long attachmentId = upload(CONTENT);
+
+        mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}", postId, attachmentId)
+                        .header(HttpHeaders.RANGE, "bytes=5-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/" + CONTENT.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 5, 10)));
+    }
+
+    @Test
+    @DisplayName("파일 길이를 벗어난 Range 요청은 416 을 응답한다")
+    void shouldRejectUnsatisfiableRange() throws Exception {
+        long attachmentId = upload(CONTENT);
+
+        mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}", postId, attachmentId)
+                        .header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length));
+    }
+
+    @Test
+    @DisplayName("없는 게시글의 첨부파일 목록 / 업로드는 404 를 응답한다")
+    void shouldRespondNotFoundForMissingPost() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/{postId}/attachments", 99_999_999L))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/v1/posts/{postId}/attachments", 99_999_999L)
+                        .param("filename", "a.txt")
+                        .header(AttachmentController.PASSWORD_HEADER, PASSWORD)
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(CONTENT))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("게시글 비밀번호가 틀리면 업로드하지 않고 400 을 응답한다")
+    void shouldRejectUploadWithWrongPassword() throws Exception {
+        mockMvc.perform(post("/api/v1/posts/{postId}/attachments", postId)
+                        .param("filename", "a.txt")
+                        .header(AttachmentController.PASSWORD_HEADER, "wrong")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(CONTENT))
+                .andExpect(status().isBadRequest());
+
+        assertThat(postAttachmentRepository.findByPostIdAndBlobHashNotOrderByIdAsc(postId, "")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비밀번호가 맞으면 첨부파일을 삭제하고 이후 다운로드는 404 를 응답한다")
+    void shouldDeleteAttachment() throws Exception {
+        long attachmentId = upload(CONTENT);
+
+        mockMvc.perform(delete("/api/v1/posts/{postId}/attachments/{attachmentId}", postId, attachmentId)
+                        .header(AttachmentController.PASSWORD_HEADER, "wrong"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/v1/posts/{postId}/attachments/{attachmentId}", postId, attachmentId)
+                        .header(AttachmentController.PASSWORD_HEADER, PASSWORD))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}", postId, attachmentId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/posts/{postId}/attachments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    private long upload(byte[] body) throws Exception {
+        String response = mockMvc.perform(post("/api/v1/posts/{postId}/attachments", postId)
+                        .param("filename", "test.txt")
+                        .header(AttachmentController.PASSWORD_HEADER, PASSWORD)
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(body.length))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode node = objectMapper.readTree(response);
+        return node.get("id").asLong();
+    }
+}
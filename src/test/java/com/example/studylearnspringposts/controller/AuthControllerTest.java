@@ -0,0 +1,127 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.repository.MyRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * AuthController 토큰 재발급 / 로그아웃 테스트
+ * - 리프레시 토큰은 한 번만 사용 가능, 로그아웃한 토큰은 재발급 / 인증 모두 거절
+ * - 가입한 사용자는 커밋되므로 끝나면 직접 삭제
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+    private static final String PASSWORD = "Passw0rd!";
+    // 로그인한 사용자만 접근 가능한 경로 (anyRequest().authenticated())
+    private static final String PROTECTED_PATH = "/actuator/health";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MyRepository myRepository;
+
+    private String username;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        username = "tok" + ThreadLocalRandom.current().nextInt(1_000_000, 10_000_000);
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", username, "password", PASSWORD))))
+                .andExpect(status().isOk());
+    }
+
+    @AfterEach
+    void tearDown() {
+        myRepository.findByUsername(username).ifPresent(myRepository::delete);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로 새 액세스 / 리프레시 토큰을 받고, 새 액세스 토큰으로 인증된다")
+    void shouldRotateRefreshToken() throws Exception {
+        JsonNode login = login();
+
+        JsonNode refreshed = body(refresh(login.get("refreshToken").asText()).andExpect(status().isOk()));
+
+        assertThat(refreshed.get("refreshToken").asText()).isNotEqualTo(login.get("refreshToken").asText());
+        assertThat(refreshed.get("token").asText()).isNotEqualTo(login.get("token").asText());
+        mockMvc.perform(get(PROTECTED_PATH)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + refreshed.get("token").asText()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("이미 사용한 리프레시 토큰으로 다시 재발급하면 401 을 응답한다")
+    void shouldRejectReusedRefreshToken() throws Exception {
+        String refreshToken = login().get("refreshToken").asText();
+
+        refresh(refreshToken).andExpect(status().isOk());
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 리프레시 토큰 재발급이 거절되고 액세스 토큰으로도 인증되지 않는다")
+    void shouldRevokeTokensOnLogout() throws Exception {
+        JsonNode login = login();
+        String accessToken = login.get("token").asText();
+        String refreshToken = login.get("refreshToken").asText();
+        mockMvc.perform(get(PROTECTED_PATH).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("refreshToken", refreshToken))))
+                .andExpect(status().isOk());
+
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        // JwtAuthenticationFilter 가 폐기된 액세스 토큰을 인증하지 않으므로 인가 단계에서 거절
+        mockMvc.perform(get(PROTECTED_PATH).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode login() throws Exception {
+        return body(mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", username, "password", PASSWORD))))
+                .andExpect(status().isOk()));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("refreshToken", refreshToken))));
+    }
+
+    private JsonNode body(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+
+    private String json(Map<String, String> body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+}
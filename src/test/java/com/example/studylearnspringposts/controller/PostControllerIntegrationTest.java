@@ -1,5 +1,7 @@
 package com.example.studylearnspringposts.controller;
 
+import com.example.studylearnspringposts.dto.PostBatchGetResponseDto;
+import com.example.studylearnspringposts.dto.PostPageDto;
 import com.example.studylearnspringposts.dto.PostRequestDto;
 import com.example.studylearnspringposts.dto.PostResponseDto;
 import com.example.studylearnspringposts.exception.PostNotFoundException;
@@ -12,6 +14,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -40,7 +44,7 @@ class PostControllerIntegrationTest {
                 .password("test1234")
                 .build();
 
-        testPost = postController.createPost(createRequest);
+        testPost = postController.createPost(null, createRequest);
         log.info("테스트용 게시글 생성 완료 - ID: {}", testPost.getId());
     }
 
@@ -115,7 +119,7 @@ class PostControllerIntegrationTest {
                     .content("내용 " + i)
                     .password("pass" + i)
                     .build();
-            postController.createPost(request);
+            postController.createPost(null, request);
             
             // 시간 차이를 위한 짧은 대기
             try { Thread.sleep(10); } catch (InterruptedException e) {}
@@ -135,4 +139,62 @@ class PostControllerIntegrationTest {
         
         log.info("전체 게시글 조회 및 정렬 확인 완료 - 총 {}개", allPosts.size());
     }
+
+    @Test
+    @DisplayName("일괄 조회는 요청 순서대로 반환하고 없는 id 는 not-found 로 표시")
+    void shouldBatchGetPostsInRequestedOrder() {
+        // Given
+        PostResponseDto second = postController.createPost(null, PostRequestDto.builder()
+                .title("일괄조회 게시글")
+                .author("테스터")
+                .content("일괄조회 내용")
+                .password("test1234")
+                .build());
+        Long missingId = 999999L;
+
+        // When
+        PostBatchGetResponseDto result = postController.getPostsByIds(
+                List.of(second.getId(), missingId, testPost.getId(), second.getId()));
+
+        // Then
+        assertThat(result.getPosts()).extracting(PostBatchGetResponseDto.Item::getId)
+                .containsExactly(second.getId(), missingId, testPost.getId(), second.getId());
+        assertThat(result.getPosts()).extracting(PostBatchGetResponseDto.Item::isFound)
+                .containsExactly(true, false, true, true);
+        assertThat(result.getPosts().get(0).getPost().getTitle()).isEqualTo("일괄조회 게시글");
+        assertThat(result.getPosts().get(1).getPost()).isNull();
+
+        log.info("일괄 조회 순서 / not-found 표시 확인 완료");
+    }
+
+    @Test
+    @DisplayName("작성자 필터 목록은 커서로 이어서 조회하면 빠짐 / 중복 없이 최신순으로 모두 반환")
+    void shouldPageFilteredPostsByCursor() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            postController.createPost(null, PostRequestDto.builder()
+                    .title("필터 게시글 " + i)
+                    .author("필터작성자")
+                    .content("필터 내용")
+                    .password("test1234")
+                    .build());
+        }
+
+        // When
+        PostPageDto first = postController.searchPosts("필터작성자", null, null, null, 3);
+        PostPageDto second = postController.searchPosts("필터작성자", null, null, first.getNextCursor(), 3);
+
+        // Then
+        assertThat(first.getPosts()).hasSize(3);
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getPosts()).hasSize(1);
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(first.getPosts()).extracting(PostResponseDto::getTitle)
+                .containsExactly("필터 게시글 3", "필터 게시글 2", "필터 게시글 1");
+        assertThat(second.getPosts()).extracting(PostResponseDto::getTitle).containsExactly("필터 게시글 0");
+        assertThrows(IllegalArgumentException.class,
+                () -> postController.searchPosts("필터작성자", null, null, "not-a-cursor", 3));
+
+        log.info("필터 목록 keyset 페이지 확인 완료");
+    }
 }
@@ -57,7 +57,7 @@ class PostControllerTest {
             "테스트용게시글","작성자","내용","pass123123"
         ); // 테스트하려면 어쨋든 객체가 가장먼저 만들어져 있긴 해야할듯
 
-        createdPost = postController.createPost(createRequest);
+        createdPost = postController.createPost(null, createRequest);
         log.info("[항해 99] : 생성된 게시글 ID: {}", createdPost.getId());
     }
 
@@ -107,7 +107,7 @@ class PostControllerTest {
         );
 
         // when 실행단계 : 게시글 생성
-        PostResponseDto newPost = postController.createPost(newPostRequest);
+        PostResponseDto newPost = postController.createPost(null, newPostRequest);
 
         // then 검증단계 :
         assertThat(newPost).isNotNull();
@@ -128,7 +128,7 @@ class PostControllerTest {
         PostRequestDto additionalRequest = new PostRequestDto(
             "추가게시글", "추가작성자", "추가내용", "addpass123"
         );
-        postController.createPost(additionalRequest);
+        postController.createPost(null, additionalRequest);
 
         // when 실행단계 : 전체 게시글 조회
         var allPosts = postController.getAllPosts();
@@ -0,0 +1,105 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.PostResponseDto;
+import com.example.studylearnspringposts.repository.PostRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 게시글 단건 조회 동시 요청 테스트
+ * 캐시가 비어 있는 게시글에 요청이 한꺼번에 몰려도 Post 엔티티 로드가 한 번만 일어나는지 Hibernate 통계로 확인
+ * (조회수 flush 가 중간에 캐시를 비우지 않도록 flush 주기를 늘려둠)
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "post.views.flush-interval-ms=600000"
+})
+class PostReadThunderingHerdTest {
+    private static final Logger log = LoggerFactory.getLogger(PostReadThunderingHerdTest.class);
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private PostController postController;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long postId;
+
+    @AfterEach
+    void tearDown() {
+        if (postId != null) {
+            jdbcTemplate.update("DELETE FROM post WHERE id = ?", postId);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 게시글에 동시 요청이 몰려도 DB 조회는 한 번만 실행된다")
+    void shouldLoadOnceUnderThunderingHerd() throws Exception {
+        postId = postRepository.save(Post.builder()
+                .title("인기 게시글").author("작성자").password("pass1234").content("내용".repeat(1000))
+                .writeDate(LocalDateTime.now())
+                .build()).getId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<PostResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return postController.getPostById(postId);
+            }));
+        }
+        assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+        start.countDown();
+
+        Set<PostResponseDto> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<PostResponseDto> future : futures) {
+            PostResponseDto response = future.get(10, TimeUnit.SECONDS);
+            assertThat(response.getTitle()).isEqualTo("인기 게시글");
+            distinct.add(response);
+        }
+        executor.shutdown();
+
+        long postLoads = statistics.getEntityStatistics(Post.class.getName()).getLoadCount();
+        log.info("동시 요청 {}개 - Post 로드 {}회, 응답 객체 {}개, single-flight 공유 {}회",
+                THREADS, postLoads, distinct.size(), postController.getPostReadFlight().getSharedCount());
+        assertThat(postLoads).isEqualTo(1);
+    }
+}
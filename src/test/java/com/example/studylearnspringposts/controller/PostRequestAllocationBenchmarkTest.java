@@ -0,0 +1,73 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.lang.management.ManagementFactory;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * [벤치마크] 게시글 조회 요청 1건당 할당 바이트
+ * - /board 와 /api/v1/posts 를 같은 조건에서 측정 (요청 경로만 다름)
+ * - 같은 테스트를 이전 커밋에서 실행하면 컨트롤러 위임 체인 제거 전후를 비교할 수 있음
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.org.springframework=INFO",
+        "logging.level.com.example.studylearnspringposts=INFO"})
+@AutoConfigureMockMvc
+class PostRequestAllocationBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(PostRequestAllocationBenchmarkTest.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostController postController;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            postId = postController.createPost(null, PostRequestDto.builder()
+                    .title("할당 측정 게시글 " + i)
+                    .author("벤치")
+                    .content("할당 측정 본문 " + i)
+                    .password("bench1234")
+                    .build()).getId();
+        }
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 경로별 요청당 할당 바이트")
+    void measureAllocationsPerRequest() throws Exception {
+        for (String path : new String[]{"/board", "/api/v1/posts", "/api/v1/posts/" + postId}) {
+            log.info("[allocation] {} -> {} bytes/request", path, allocatedBytesPerRequest(path, 2000));
+        }
+    }
+
+    private long allocatedBytesPerRequest(String path, int iterations) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < iterations / 10; i++) {
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / iterations;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.studylearnspringposts.controller;
+
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [벤치마크] /api/v1/posts (JPA, 블로킹) vs /api/v2/posts (R2DBC) 동시 요청 비교
+ * - 동시 요청 수를 늘려가며 지연시간 분포와 최대 스레드 수를 기록
+ * - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "logging.level.org.springframework.web=INFO",
+                "logging.level.com.example.studylearnspringposts=INFO"})
+class ReactivePostBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(ReactivePostBenchmarkTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostController postController;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 50; i++) {
+            postController.createPost(null, PostRequestDto.builder()
+                    .title("벤치마크 게시글 " + i)
+                    .author("벤치")
+                    .content("벤치마크 본문 ".repeat(50))
+                    .password("bench1234")
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 동시 요청 수에 따른 v1 / v2 지연시간과 스레드 수")
+    void compareBlockingAndReactiveReads() throws Exception {
+        for (int concurrency : new int[]{100, 500, 1000}) {
+            run("/api/v1/posts", concurrency);
+            run("/api/v2/posts", concurrency);
+        }
+    }
+
+    private void run(String path, int concurrency) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        URI uri = URI.create("http://localhost:" + port + path);
+
+        // 워밍업
+        for (int i = 0; i < 20; i++) {
+            httpClient.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+        }
+
+        threads.resetPeakThreadCount();
+        long started = System.nanoTime();
+        List<CompletableFuture<Long>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            long sent = System.nanoTime();
+            futures.add(httpClient.sendAsync(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> {
+                        assertThat(response.statusCode()).isEqualTo(200);
+                        return System.nanoTime() - sent;
+                    }));
+        }
+
+        long[] latencies = new long[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            latencies[i] = futures.get(i).get();
+        }
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+
+        log.info("[{}] concurrency={} throughput={}req/s p50={}ms p99={}ms max={}ms peakThreads={}",
+                path, concurrency,
+                (long) (concurrency / (elapsed / 1_000_000_000.0)),
+                latencies[concurrency / 2] / 1_000_000,
+                latencies[(int) (concurrency * 0.99)] / 1_000_000,
+                latencies[concurrency - 1] / 1_000_000,
+                threads.getPeakThreadCount());
+    }
+}
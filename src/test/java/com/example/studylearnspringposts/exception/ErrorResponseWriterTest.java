@@ -0,0 +1,102 @@
+package com.example.studylearnspringposts.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper);
+
+    @Test
+    @DisplayName("기존과 같은 필드의 JSON 본문을 만든다")
+    void shouldWriteErrorBody() throws Exception {
+        ResponseEntity<byte[]> response = writer.write(HttpStatus.NOT_FOUND, "Not Found",
+                "게시글을 찾을 수 없습니다.", "/api/v1/posts");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertThat(body.get("status").asInt()).isEqualTo(404);
+        assertThat(body.get("error").asText()).isEqualTo("Not Found");
+        assertThat(body.get("message").asText()).isEqualTo("게시글을 찾을 수 없습니다.");
+        assertThat(body.get("path").asText()).isEqualTo("/api/v1/posts");
+        assertThat(LocalDateTime.parse(body.get("timestamp").asText()))
+                .isBetween(LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("메시지의 따옴표 / 줄바꿈 / null 도 올바른 JSON 으로 만든다")
+    void shouldEscapeMessage() throws Exception {
+        JsonNode quoted = objectMapper.readTree(writer.write(HttpStatus.BAD_REQUEST, "Bad Request",
+                "잘못된 값 \"x\"\n다음 줄", "/api/v1/posts").getBody());
+        JsonNode empty = objectMapper.readTree(writer.write(HttpStatus.BAD_REQUEST, "Bad Request",
+                null, "/api/v1/posts").getBody());
+
+        assertThat(quoted.get("message").asText()).isEqualTo("잘못된 값 \"x\"\n다음 줄");
+        assertThat(empty.get("message").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("id 가 다른 메시지가 많아도 같은 상태 / 경로의 템플릿 하나를 계속 사용한다")
+    void shouldReuseTemplateForDistinctIds() throws Exception {
+        for (int i = 0; i < ErrorResponseWriter.MAX_TEMPLATES * 2; i++) {
+            JsonNode body = objectMapper.readTree(writer.write(HttpStatus.NOT_FOUND, "Not Found",
+                    "게시글을 찾을 수 없습니다. ID: " + i, "/api/v1/posts").getBody());
+            assertThat(body.get("message").asText()).endsWith("ID: " + i);
+        }
+
+        assertThat(writer.templateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태 / 경로 조합이 많아도 미리 만든 본문은 최대 개수까지만 보관하고 응답은 계속 만든다")
+    void shouldBoundTemplates() throws Exception {
+        for (int i = 0; i < ErrorResponseWriter.MAX_TEMPLATES * 2; i++) {
+            JsonNode body = objectMapper.readTree(writer.write(HttpStatus.NOT_FOUND, "Not Found",
+                    "게시글을 찾을 수 없습니다.", "/api/v1/posts/" + i).getBody());
+            assertThat(body.get("path").asText()).isEqualTo("/api/v1/posts/" + i);
+        }
+
+        assertThat(writer.templateCount()).isEqualTo(ErrorResponseWriter.MAX_TEMPLATES);
+    }
+
+    @Test
+    @DisplayName("timestamp 는 정각에도 초를 생략하지 않고 소수부는 ISO_LOCAL_DATE_TIME 과 같은 자릿수로 쓴다")
+    void shouldFormatTimestampLikeIsoLocalDateTime() {
+        Instant minute = Instant.parse("2026-10-19T10:00:00Z");
+
+        assertThat(timestamp(minute)).isEqualTo("2026-10-19T10:00:00");
+        for (Instant instant : List.of(minute, minute.plusMillis(500), minute.plusNanos(123_456_789),
+                minute.plusNanos(1_000), minute.plusSeconds(59).plusNanos(10), minute.minusNanos(1))) {
+            assertThat(timestamp(instant)).isEqualTo(
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.ofInstant(instant, ZoneOffset.UTC)));
+        }
+    }
+
+    @Test
+    @DisplayName("예상된 도메인 예외는 스택 트레이스를 만들지 않는다")
+    void shouldCreateStacklessExceptions() {
+        assertThat(new PostNotFoundException(1L).getStackTrace()).isEmpty();
+        assertThat(new InvalidPostPasswordException().getStackTrace()).isEmpty();
+        assertThat(new InvalidPostPasswordException()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String timestamp(Instant instant) {
+        return new String(writer.timestamp(instant, ZoneOffset.UTC), StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.studylearnspringposts.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * [벤치마크] 없는 게시글 조회(404) 처리 비용
+ * - 이전 방식: 스택 트레이스가 있는 예외 + 요청마다 HashMap 생성 후 Jackson 직렬화
+ * - 현재 방식: 스택 트레이스 없는 예외 + ErrorResponseWriter 의 미리 만든 본문
+ * - 예외는 실제 요청 경로와 비슷한 깊이(약 150 프레임)의 호출 스택에서 생성
+ * - 끝으로 MockMvc 로 GET /api/v1/posts/{없는 id} 전체 처리량도 측정
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.org.springframework=INFO",
+        "logging.level.com.example.studylearnspringposts=INFO"})
+@AutoConfigureMockMvc
+class NotFoundBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(NotFoundBenchmarkTest.class);
+
+    private static final int STACK_DEPTH = 150;
+    private static final int ITERATIONS = 200_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ErrorResponseWriter errorResponseWriter;
+
+    private long sink;
+
+    @Test
+    @DisplayName("[벤치마크] 404 예외 생성 + 오류 본문 작성, 이전 방식 대비")
+    void measureNotFoundPath() throws Exception {
+        IntSupplier legacy = () -> atDepth(STACK_DEPTH, () -> {
+            try {
+                throw new RuntimeException("게시글을 찾을 수 없습니다.");
+            } catch (RuntimeException e) {
+                Map<String, Object> body = new HashMap<>();
+                body.put("timestamp", LocalDateTime.now());
+                body.put("status", HttpStatus.NOT_FOUND.value());
+                body.put("error", "Not Found");
+                body.put("message", e.getMessage());
+                body.put("path", "/api/v1/posts");
+                try {
+                    return objectMapper.writeValueAsBytes(body).length;
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        });
+        IntSupplier current = () -> atDepth(STACK_DEPTH, () -> {
+            try {
+                throw new PostNotFoundException("게시글을 찾을 수 없습니다.");
+            } catch (PostNotFoundException e) {
+                return errorResponseWriter.write(HttpStatus.NOT_FOUND, "Not Found", e.getMessage(),
+                        "/api/v1/posts").getBody().length;
+            }
+        });
+
+        double legacyPerSecond = throughput(legacy);
+        double currentPerSecond = throughput(current);
+        log.info("[404] 이전 방식 {} ops/s, 현재 방식 {} ops/s ({}배)", Math.round(legacyPerSecond),
+                Math.round(currentPerSecond), Math.round(currentPerSecond / legacyPerSecond * 10) / 10.0);
+
+        int requests = 20_000;
+        for (int i = 0; i < requests / 10; i++) {
+            mockMvc.perform(get("/api/v1/posts/" + (900_000_000L + i))).andExpect(status().isNotFound());
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            mockMvc.perform(get("/api/v1/posts/" + (910_000_000L + i))).andExpect(status().isNotFound());
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        log.info("[404] MockMvc GET /api/v1/posts/{{없는 id}} {} req/s (sink={})", Math.round(requests / seconds), sink);
+    }
+
+    private double throughput(IntSupplier operation) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            sink += operation.getAsInt();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += operation.getAsInt();
+        }
+        return ITERATIONS / ((System.nanoTime() - started) / 1_000_000_000.0);
+    }
+
+    // depth 만큼 호출 스택을 쌓은 뒤 실행 (스택 트레이스 생성 비용은 깊이에 비례)
+    private static int atDepth(int depth, IntSupplier operation) {
+        return depth == 0 ? operation.getAsInt() : atDepth(depth - 1, operation);
+    }
+}
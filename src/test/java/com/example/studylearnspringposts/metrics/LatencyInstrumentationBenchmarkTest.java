@@ -0,0 +1,81 @@
+package com.example.studylearnspringposts.metrics;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.repository.InMemoryPostStore;
+import com.example.studylearnspringposts.repository.PostStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.LocalDateTime;
+
+/**
+ * [벤치마크] 계층 측정 프록시 / 트레이싱 span 자체의 비용 (./gradlew benchmark)
+ * - 같은 메모리 저장소 호출을 직접 / 히스토그램만 / 히스토그램 + span 으로 실행해서 호출당 추가 시간을 비교
+ * - 결과는 로그로만 출력
+ */
+@Tag("benchmark")
+class LatencyInstrumentationBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(LatencyInstrumentationBenchmarkTest.class);
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+
+    @Test
+    @DisplayName("[벤치마크] 측정 없음 / 히스토그램 / 히스토그램 + span 호출당 비용")
+    void measureInstrumentationOverhead() throws Exception {
+        InMemoryPostStore target = new InMemoryPostStore();
+        Long id = target.save(Post.builder()
+                .title("벤치마크").author("벤치").password("bench1234").content("본문")
+                .writeDate(LocalDateTime.now())
+                .build()).getId();
+
+        SpanTracer disabledTracer = new SpanTracer(false, 1.0, SpanTracer.MEMORY, 1000, "");
+        SpanTracer enabledTracer = new SpanTracer(true, 1.0, SpanTracer.MEMORY, 1000, "");
+
+        long direct = run(target, id, null);
+        long histogramOnly = run(proxy(target, disabledTracer), id, null);
+        long withSpans = run(proxy(target, enabledTracer), id, enabledTracer);
+
+        log.info("direct={}ns/op histogram={}ns/op (+{}) histogram+span={}ns/op (+{})",
+                direct, histogramOnly, histogramOnly - direct, withSpans, withSpans - direct);
+    }
+
+    private static PostStore proxy(PostStore target, SpanTracer tracer) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new LayerTimingPostProcessor.TimingInterceptor(new LatencyRecorder(), tracer));
+        return (PostStore) factory.getProxy();
+    }
+
+    // 반환값을 누적해서 JIT 가 호출을 없애지 못하게 함
+    private static long run(PostStore store, Long id, SpanTracer tracer) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += call(store, id, tracer);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += call(store, id, tracer);
+        }
+        long perOp = (System.nanoTime() - start) / ITERATIONS;
+        if (sink == 42) {
+            log.debug("sink={}", sink);
+        }
+        return perOp;
+    }
+
+    private static int call(PostStore store, Long id, SpanTracer tracer) {
+        SpanTracer.Span root = tracer != null ? tracer.startTrace("benchmark") : null;
+        try {
+            return store.existsById(id) ? 1 : 0;
+        } finally {
+            if (tracer != null) {
+                tracer.finish(root);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.studylearnspringposts.outbox;
+
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import com.example.studylearnspringposts.event.PostEventType;
+import com.example.studylearnspringposts.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 기록 / 전달 테스트
+ * 전달 작업은 별도 커넥션으로 claim 하므로 테스트 트랜잭션 없이 실제로 저장하고, 스케줄 전달은 꺼둠
+ */
+@SpringBootTest(properties = "post.outbox.relay-enabled=false")
+class PostOutboxRelayTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM post_outbox");
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(id -> jdbcTemplate.update("DELETE FROM post WHERE id = ?", id));
+    }
+
+    @Test
+    @DisplayName("생성 / 수정 / 삭제는 같은 트랜잭션에서 아웃박스에 순서대로 기록된다")
+    void shouldAppendInSameTransaction() {
+        Long id = createPost("아웃박스");
+        postService.updatePost(id, new PostRequestDto("수정된 제목", "작성자", "pass1234", "수정된 내용"));
+        postService.deletePost(id, new PostRequestDto(null, null, "pass1234", null));
+
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT event_type FROM post_outbox WHERE post_id = ? ORDER BY id", String.class, id);
+        assertThat(types).containsExactly("CREATED", "UPDATED", "DELETED");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT payload FROM post_outbox WHERE post_id = ? AND event_type = 'UPDATED'", String.class, id))
+                .contains("수정된 제목");
+
+        Long rolledBack = transactionTemplate.execute(status -> {
+            Long newId = createPost("롤백될 게시글");
+            status.setRollbackOnly();
+            return newId;
+        });
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_outbox WHERE post_id = ?", Long.class, rolledBack)).isZero();
+    }
+
+    @Test
+    @DisplayName("전달에 실패한 묶음은 다음 실행에서 다시 전달되고, 성공하면 전달 완료로 표시된다")
+    void shouldRetryFailedBatch() {
+        Long id = createPost("재시도");
+        postService.updatePost(id, new PostRequestDto("재시도 수정", "작성자", "pass1234", "내용"));
+
+        AtomicBoolean failing = new AtomicBoolean(true);
+        List<OutboxEvent> delivered = new ArrayList<>();
+        PostOutboxRelay relay = relay(new PostEventSink() {
+            @Override
+            public String name() {
+                return "flaky";
+            }
+
+            @Override
+            public void deliver(List<OutboxEvent> events) {
+                if (failing.get()) {
+                    throw new IllegalStateException("싱크 장애");
+                }
+                delivered.addAll(events);
+            }
+        }, 100);
+
+        assertThat(relay.relay()).isZero();
+        assertThat(pendingCount()).isEqualTo(2);
+
+        failing.set(false);
+        assertThat(relay.relay()).isEqualTo(2);
+        assertThat(delivered).extracting(OutboxEvent::type)
+                .containsExactly(PostEventType.CREATED, PostEventType.UPDATED);
+        assertThat(delivered).extracting(OutboxEvent::postId).containsOnly(id);
+        assertThat(pendingCount()).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT attempts FROM post_outbox WHERE post_id = ?", Integer.class, id))
+                .containsOnly(2);
+        assertThat(relay.relay()).isZero();
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 이벤트는 뒤의 이벤트 전달을 막지 않고, 재시도를 미루다가 max-attempts 번 실패하면 빠진다")
+    void shouldSetAsidePoisonEvent() {
+        Long poison = createPost("전달 불가");
+        Long first = createPost("정상 1");
+        Long second = createPost("정상 2");
+        List<Long> delivered = new ArrayList<>();
+        PostEventSink sink = new PostEventSink() {
+            @Override
+            public String name() {
+                return "poisoned";
+            }
+
+            @Override
+            public void deliver(List<OutboxEvent> events) {
+                if (events.stream().anyMatch(event -> event.postId().equals(poison))) {
+                    throw new IllegalStateException("처리할 수 없는 이벤트");
+                }
+                events.forEach(event -> delivered.add(event.postId()));
+            }
+        };
+
+        // 재시도를 미루는 동안에는 다시 가져가지 않음
+        PostOutboxRelay delayed = relay(sink, 100, 3, 60_000);
+        assertThat(delayed.relay()).isEqualTo(2);
+        assertThat(delivered).containsExactly(first, second);
+        assertThat(delayed.relay()).isZero();
+        assertThat(attempts(poison)).isEqualTo(1);
+
+        jdbcTemplate.update("UPDATE post_outbox SET next_attempt_at = NULL WHERE post_id = ?", poison);
+        PostOutboxRelay relay = relay(sink, 100, 3, 0);
+        Long third = createPost("정상 3");
+        assertThat(relay.relay()).isEqualTo(1);
+        assertThat(delivered).containsExactly(first, second, third);
+
+        relay.relay();
+        assertThat(attempts(poison)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_outbox WHERE post_id = ? AND failed_at IS NOT NULL", Long.class, poison))
+                .isEqualTo(1);
+        assertThat(relay.relay()).isZero();
+        assertThat(attempts(poison)).isEqualTo(3);
+        assertThat(pendingCount()).isEqualTo(1); // 실패로 빠진 행만 남음
+    }
+
+    @Test
+    @DisplayName("여러 전달 작업이 동시에 돌아도 이벤트는 한 번씩만 전달된다")
+    void shouldClaimEachEventOnce() throws Exception {
+        for (int i = 0; i < 60; i++) {
+            createPost("동시 전달 " + i);
+        }
+        List<Long> delivered = Collections.synchronizedList(new ArrayList<>());
+        PostEventSink sink = new PostEventSink() {
+            @Override
+            public String name() {
+                return "collecting";
+            }
+
+            @Override
+            public void deliver(List<OutboxEvent> events) {
+                events.forEach(event -> delivered.add(event.id()));
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            PostOutboxRelay relay = relay(sink, 7);
+            futures.add(executor.submit(() -> {
+                while (relay.relay() > 0) {
+                    // 남은 이벤트가 없을 때까지 반복
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(delivered).hasSize(60).doesNotHaveDuplicates();
+        assertThat(pendingCount()).isZero();
+    }
+
+    private PostOutboxRelay relay(PostEventSink sink, int batchSize) {
+        return relay(sink, batchSize, 10, 0);
+    }
+
+    private PostOutboxRelay relay(PostEventSink sink, int batchSize, int maxAttempts, long retryBackoffMillis) {
+        return new PostOutboxRelay(jdbcTemplate, List.of(sink), true, batchSize, 60, 24, maxAttempts,
+                retryBackoffMillis, retryBackoffMillis);
+    }
+
+    private int attempts(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT attempts FROM post_outbox WHERE post_id = ?", Integer.class, postId);
+    }
+
+    private long pendingCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_outbox WHERE delivered_at IS NULL", Long.class);
+    }
+
+    private Long createPost(String title) {
+        Long id = postService.createPost(new PostRequestDto(title, "작성자", "pass1234", "내용").toEntity()).getId();
+        createdIds.add(id);
+        return id;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.studylearnspringposts.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 필터 목록 쿼리가 복합 인덱스를 타는지 EXPLAIN 으로 확인
+ * - JdbcPostStore 가 실제로 실행하는 SQL 그대로 실행 계획을 조회
+ */
+@SpringBootTest
+@Transactional
+class PostFilterExplainTest {
+    private static final Logger log = LoggerFactory.getLogger(PostFilterExplainTest.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 테이블 스캔이 더 싸 보이지 않도록 작성자 / 날짜가 다양한 게시글을 채움
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Timestamp writeDate = Timestamp.valueOf(base.plusHours(i));
+            rows.add(new Object[]{"EXPLAIN 게시글 " + i, "작성자" + (i % 50), "pw", "본문", writeDate, writeDate, writeDate});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post (title, author, password, content, write_date, created_date, updated_date) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    @DisplayName("작성자 필터 (+ 커서) 는 (author, write_date, id) 인덱스를 사용한다")
+    void authorFilterShouldUseAuthorIndex() {
+        String plan = explain(new PostFilter("작성자7", null, null, null, null));
+        String pagedPlan = explain(new PostFilter("작성자7", null, null, LocalDateTime.of(2024, 1, 10, 0, 0), 100L));
+
+        assertThat(plan).containsIgnoringCase("IDX_POST_AUTHOR_WRITE_DATE");
+        assertThat(pagedPlan).containsIgnoringCase("IDX_POST_AUTHOR_WRITE_DATE");
+    }
+
+    @Test
+    @DisplayName("기간 필터는 (write_date, id) 인덱스 범위 스캔을 사용한다")
+    void dateRangeFilterShouldUseWriteDateIndex() {
+        String plan = explain(new PostFilter(null,
+                LocalDateTime.of(2024, 1, 5, 0, 0), LocalDateTime.of(2024, 1, 6, 0, 0), null, null));
+
+        assertThat(plan).containsIgnoringCase("IDX_POST_WRITE_DATE");
+    }
+
+    private String explain(PostFilter filter) {
+        JdbcPostStore.FilterQuery query = JdbcPostStore.filterQuery(filter, 21);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + query.sql(), String.class, query.args());
+        log.info("실행 계획: {}", plan);
+        return plan;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [벤치마크] PostStore 엔진별 처리량 비교 (./gradlew benchmark)
+ * - 모든 엔진에 같은 작업을 같은 스레드 수로 실행: 작성 / 단건 조회 / 전체 목록 / 수정
+ * - PostService 와 같게 각 연산을 트랜잭션 하나로 감쌈, 결과는 로그로만 출력
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.org.springframework.web=INFO",
+        "logging.level.com.example.studylearnspringposts=INFO", "logging.level.org.springframework.security=INFO"})
+class PostStoreBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(PostStoreBenchmarkTest.class);
+
+    private static final int THREADS = 8;
+    private static final int SEED_POSTS = 1_000;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+    private static final int LIST_EVERY = 100;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("[벤치마크] jpa / jdbc / memory 엔진 처리량")
+    void compareEngines() throws Exception {
+        run("jpa", new JpaPostStore(postRepository, entityManager));
+        run("jdbc", new JdbcPostStore(jdbcTemplate));
+        run("memory", new InMemoryPostStore());
+    }
+
+    private void run(String engine, PostStore store) throws Exception {
+        List<Long> ids = new ArrayList<>(SEED_POSTS);
+        for (int i = 0; i < SEED_POSTS; i++) {
+            ids.add(transactionTemplate.execute(status -> store.save(post("시드 게시글"))).getId());
+        }
+        // 워밍업
+        workload(store, ids, OPERATIONS_PER_THREAD / 4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long started = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> workload(store, ids, OPERATIONS_PER_THREAD)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - started;
+            long operations = (long) THREADS * OPERATIONS_PER_THREAD;
+            log.info("[{}] threads={} operations={} throughput={}ops/s avg={}us",
+                    engine, THREADS, operations,
+                    (long) (operations / (elapsed / 1_000_000_000.0)),
+                    elapsed / operations * THREADS / 1_000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 조회 위주 혼합 작업: 단건 조회 70%, 작성 15%, 수정 15%, LIST_EVERY 번마다 전체 목록
+    private void workload(PostStore store, List<Long> ids, int operations) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < operations; i++) {
+            Long id = ids.get(random.nextInt(ids.size()));
+            int dice = random.nextInt(100);
+            if (i % LIST_EVERY == 0) {
+                transactionTemplate.execute(status -> store.findAllOrderByWriteDateDesc());
+            } else if (dice < 70) {
+                transactionTemplate.execute(status -> store.findById(id));
+            } else if (dice < 85) {
+                transactionTemplate.execute(status -> store.save(post("벤치마크 게시글")));
+            } else {
+                String title = "수정된 게시글 " + i;
+                transactionTemplate.executeWithoutResult(status -> store.findById(id).ifPresent(post -> {
+                    post.setTitle(title);
+                    store.save(post);
+                }));
+            }
+        }
+    }
+
+    private static Post post(String title) {
+        return Post.builder()
+                .title(title)
+                .author("벤치")
+                .password("bench1234")
+                .content("벤치마크 본문 ".repeat(20))
+                .writeDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.studylearnspringposts.repository;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostStore 엔진 3종이 같은 의미로 동작하는지 확인
+ * - JPA 엔진은 컨텍스트의 빈, JDBC / 메모리 엔진은 같은 DB 를 대상으로 직접 생성
+ * - JdbcTemplate 도 JPA 트랜잭션에 참여하므로 저장한 게시글은 테스트가 끝나면 함께 롤백
+ */
+@SpringBootTest
+@Transactional // 테스트 후 데이터 자동 롤백 (다른 테스트와 같은 컨텍스트의 DB 를 공유)
+class PostStoreTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jpa", "jdbc", "memory"})
+    @DisplayName("저장한 게시글은 id 로 조회되고, 목록은 작성 날짜 → id 내림차순이다")
+    void shouldSaveAndListNewestFirst(String engine) {
+        PostStore store = store(engine);
+        LocalDateTime writeDate = LocalDateTime.now().withNano(0);
+
+        Post older = store.save(post("이전 글", writeDate.minusMinutes(1)));
+        Post first = store.save(post("같은 시각 1", writeDate));
+        Post second = store.save(post("같은 시각 2", writeDate));
+
+        assertThat(store.findById(first.getId())).get().extracting(Post::getTitle).isEqualTo("같은 시각 1");
+        assertThat(store.existsById(older.getId())).isTrue();
+
+        Set<Long> ids = Set.of(older.getId(), first.getId(), second.getId());
+        List<Long> ordered = store.findAllOrderByWriteDateDesc().stream()
+                .map(Post::getId)
+                .filter(ids::contains)
+                .toList();
+        assertThat(ordered).containsExactly(second.getId(), first.getId(), older.getId());
+        assertThat(store.findAllById(List.of(first.getId(), -1L))).extracting(Post::getId)
+                .containsExactly(first.getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jpa", "jdbc", "memory"})
+    @DisplayName("수정은 save 로 반영되고, 삭제한 게시글은 모든 조회에서 제외된다")
+    void shouldUpdateAndSoftDelete(String engine) {
+        PostStore store = store(engine);
+        Post saved = store.save(post("수정 전", LocalDateTime.now()));
+
+        Post loaded = store.findById(saved.getId()).orElseThrow();
+        loaded.setTitle("수정 후");
+        store.save(loaded);
+        assertThat(store.findById(saved.getId())).get().extracting(Post::getTitle).isEqualTo("수정 후");
+
+        store.deleteById(saved.getId());
+
+        assertThat(store.findById(saved.getId())).isEmpty();
+        assertThat(store.existsById(saved.getId())).isFalse();
+        assertThat(store.findAllById(List.of(saved.getId()))).isEmpty();
+        assertThat(store.findAllOrderByWriteDateDesc()).extracting(Post::getId).doesNotContain(saved.getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jpa", "jdbc", "memory"})
+    @DisplayName("작성자 / 기간 필터는 keyset 커서로 이어서 읽어도 빠짐 / 중복이 없다")
+    void shouldFilterByAuthorAndDateRangeWithCursor(String engine) {
+        PostStore store = store(engine);
+        String author = "필터-" + engine;
+        LocalDateTime base = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+        Post outOfRange = store.save(post("범위 밖", base.minusDays(1), author));
+        Post other = store.save(post("다른 작성자", base.plusHours(1), "다른-" + engine));
+        Post a = store.save(post("a", base, author));
+        Post b = store.save(post("b", base.plusHours(1), author));
+        Post c = store.save(post("c", base.plusHours(1), author));
+        Post d = store.save(post("d", base.plusHours(2), author));
+        store.save(post("범위 끝", base.plusDays(1), author));
+
+        PostFilter filter = new PostFilter(author, base, base.plusDays(1), null, null);
+        List<Post> first = store.findFiltered(filter, 2);
+        Post last = first.get(first.size() - 1);
+        List<Post> second = store.findFiltered(filter.after(last.getWriteDate(), last.getId()), 10);
+
+        assertThat(first).extracting(Post::getId).containsExactly(d.getId(), c.getId());
+        assertThat(second).extracting(Post::getId).containsExactly(b.getId(), a.getId());
+
+        List<Post> byDate = store.findFiltered(new PostFilter(null, base.plusHours(1), base.plusHours(2), null, null), 10);
+        assertThat(byDate).extracting(Post::getId).contains(other.getId(), b.getId(), c.getId())
+                .doesNotContain(a.getId(), d.getId(), outOfRange.getId());
+    }
+
+    private PostStore store(String engine) {
+        return switch (engine) {
+            case "jpa" -> new JpaPostStore(postRepository, entityManager);
+            case "jdbc" -> new JdbcPostStore(jdbcTemplate);
+            default -> new InMemoryPostStore();
+        };
+    }
+
+    private static Post post(String title, LocalDateTime writeDate) {
+        return post(title, writeDate, "작성자");
+    }
+
+    private static Post post(String title, LocalDateTime writeDate, String author) {
+        return Post.builder()
+                .title(title)
+                .author(author)
+                .password("test1234")
+                .content("본문")
+                .writeDate(writeDate)
+                .build();
+    }
+}
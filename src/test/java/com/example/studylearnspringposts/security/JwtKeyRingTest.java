@@ -0,0 +1,135 @@
+package com.example.studylearnspringposts.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = "mySecretKey12345678901234567890123456789012345";
+    private static final long DAY = 86_400_000L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("키를 교체해도 이전 키로 서명한 토큰은 kid 로 검증 키를 찾아 검증된다")
+    void shouldVerifyTokensSignedByPreviousKey() throws Exception {
+        JwtKeyRing keyRing = open(JwtKeyRing.ES256);
+        JwtParser parser = Jwts.parser().keyLocator(keyRing).build();
+
+        String oldKid = keyRing.getActiveKeyId();
+        String oldToken = sign(keyRing, "old");
+
+        String newKid = keyRing.rotate();
+        String newToken = sign(keyRing, "new");
+
+        assertThat(newKid).isNotEqualTo(oldKid);
+        assertThat(parser.parseSignedClaims(oldToken).getHeader().getKeyId()).isEqualTo(oldKid);
+        assertThat(parser.parseSignedClaims(oldToken).getPayload().getSubject()).isEqualTo("old");
+        assertThat(parser.parseSignedClaims(newToken).getHeader().getKeyId()).isEqualTo(newKid);
+    }
+
+    @Test
+    @DisplayName("JWKS 에는 검증에 필요한 모든 공개키가 포함된다")
+    void shouldPublishAllVerificationKeys() throws Exception {
+        JwtKeyRing keyRing = open(JwtKeyRing.EDDSA);
+        String first = keyRing.getActiveKeyId();
+        String second = keyRing.rotate();
+
+        String jwks = new String(keyRing.getJwks(), StandardCharsets.UTF_8);
+
+        assertThat(jwks).contains("\"kid\":\"" + first + "\"", "\"kid\":\"" + second + "\"");
+        assertThat(jwks).contains("\"kty\":\"OKP\"", "\"crv\":\"Ed25519\"", "\"alg\":\"EdDSA\"");
+        assertThat(jwks).doesNotContain("\"d\"");
+    }
+
+    @Test
+    @DisplayName("재시작해도 저장된 키로 기존 토큰을 검증한다")
+    void shouldReloadKeysFromDirectory() throws Exception {
+        JwtKeyRing keyRing = open(JwtKeyRing.ES256);
+        String token = sign(keyRing, "user");
+
+        JwtKeyRing restarted = open(JwtKeyRing.ES256);
+
+        assertThat(restarted.getActiveKeyId()).isEqualTo(keyRing.getActiveKeyId());
+        assertThat(Jwts.parser().keyLocator(restarted).build().parseSignedClaims(token).getPayload().getSubject())
+                .isEqualTo("user");
+    }
+
+    @Test
+    @DisplayName("키 디렉터리를 공유하는 다른 인스턴스가 교체한 키로 서명한 토큰도 검증하고 JWKS 에 반영한다")
+    void shouldPickUpKeyRotatedByOtherInstance() throws Exception {
+        JwtKeyRing first = open(JwtKeyRing.ES256);
+        JwtKeyRing second = open(JwtKeyRing.ES256);
+        assertThat(second.getActiveKeyId()).isEqualTo(first.getActiveKeyId());
+
+        String rotated = first.rotate();
+        String token = sign(first, "user");
+
+        assertThat(Jwts.parser().keyLocator(second).build().parseSignedClaims(token).getPayload().getSubject())
+                .isEqualTo("user");
+        assertThat(second.getActiveKeyId()).isEqualTo(rotated);
+        assertThat(new String(second.getJwks(), StandardCharsets.UTF_8)).contains("\"kid\":\"" + rotated + "\"");
+    }
+
+    @Test
+    @DisplayName("주기적으로 다시 읽으면 토큰이 오기 전에도 다른 인스턴스의 키가 JWKS 에 들어간다")
+    void shouldReloadKeysPeriodically() throws Exception {
+        JwtKeyRing first = open(JwtKeyRing.EDDSA);
+        JwtKeyRing second = open(JwtKeyRing.EDDSA);
+        String previous = first.getActiveKeyId();
+
+        String rotated = first.rotate();
+
+        assertThat(second.reload()).isEqualTo(1);
+        assertThat(second.reload()).isZero();
+        assertThat(second.getActiveKeyId()).isEqualTo(rotated);
+        assertThat(new String(second.getJwks(), StandardCharsets.UTF_8))
+                .contains("\"kid\":\"" + previous + "\"", "\"kid\":\"" + rotated + "\"");
+    }
+
+    @Test
+    @DisplayName("모르는 kid 로 서명된 토큰은 거절한다")
+    void shouldRejectUnknownKeyId() throws Exception {
+        String token = sign(open(JwtKeyRing.ES256), "user");
+        JwtKeyRing other = new JwtKeyRing(JwtKeyRing.ES256, SECRET, dir.resolve("other").toString(), 14 * DAY, 7 * DAY);
+        other.load();
+
+        assertThatThrownBy(() -> Jwts.parser().keyLocator(other).build().parseSignedClaims(token))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("HS256 모드는 kid 없는 기존 토큰도 검증하고, JWKS 는 비워둔다")
+    void shouldKeepHmacCompatibility() throws Exception {
+        JwtKeyRing keyRing = open(JwtKeyRing.HS256);
+        String legacy = Jwts.builder().subject("legacy")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        assertThat(Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(legacy).getPayload().getSubject())
+                .isEqualTo("legacy");
+        assertThat(new String(keyRing.getJwks(), StandardCharsets.UTF_8)).isEqualTo("{\"keys\":[]}");
+    }
+
+    private JwtKeyRing open(String algorithm) throws Exception {
+        JwtKeyRing keyRing = new JwtKeyRing(algorithm, SECRET, dir.toString(), 14 * DAY, 7 * DAY);
+        keyRing.load();
+        return keyRing;
+    }
+
+    private static String sign(JwtKeyRing keyRing, String subject) {
+        return keyRing.sign(Jwts.builder().subject(subject)).compact();
+    }
+}
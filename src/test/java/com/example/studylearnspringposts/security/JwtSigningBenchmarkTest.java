@@ -0,0 +1,65 @@
+package com.example.studylearnspringposts.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+
+/**
+ * 서명 알고리즘별 토큰 발급 / 검증 비용 측정 (./gradlew benchmark)
+ * - 배포 환경별로 알고리즘을 고르기 위한 참고값, 결과는 로그로만 출력
+ */
+@Tag("benchmark")
+class JwtSigningBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(JwtSigningBenchmarkTest.class);
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    @DisplayName("[벤치마크] HS256 / ES256 / EdDSA 서명, 검증 비용")
+    void benchmarkSignAndVerify() throws Exception {
+        for (String algorithm : new String[]{JwtKeyRing.HS256, JwtKeyRing.ES256, JwtKeyRing.EDDSA}) {
+            JwtKeyRing keyRing = new JwtKeyRing(algorithm, "mySecretKey12345678901234567890123456789012345",
+                    "", 1_209_600_000L, 604_800_000L);
+            keyRing.load();
+            JwtParser parser = Jwts.parser().keyLocator(keyRing).build();
+
+            String token = null;
+            for (int i = 0; i < WARMUP; i++) {
+                token = sign(keyRing, i);
+                parser.parseSignedClaims(token);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                token = sign(keyRing, i);
+            }
+            long signNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                parser.parseSignedClaims(token);
+            }
+            long verifyNanos = System.nanoTime() - start;
+
+            log.info("[jwt] {} sign={}us/op verify={}us/op tokenLength={}B",
+                    algorithm, signNanos / ITERATIONS / 1000.0, verifyNanos / ITERATIONS / 1000.0, token.length());
+        }
+    }
+
+    private static String sign(JwtKeyRing keyRing, int i) {
+        long now = System.currentTimeMillis();
+        return keyRing.sign(Jwts.builder()
+                .subject("user" + i)
+                .claim("role", "ROLE_USER")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 900_000)))
+                .compact();
+    }
+}
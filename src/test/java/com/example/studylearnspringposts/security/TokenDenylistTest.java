@@ -0,0 +1,101 @@
+package com.example.studylearnspringposts.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenylistTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("폐기한 토큰은 만료 전까지 폐기 상태로 조회되고, 같은 토큰을 두 번 폐기할 수 없다")
+    void shouldRevokeOnce() throws Exception {
+        TokenDenylist denylist = open();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        assertThat(denylist.revoke("jti-1", expiresAt)).isTrue();
+        assertThat(denylist.revoke("jti-1", expiresAt)).isFalse();
+
+        assertThat(denylist.isRevoked("jti-1")).isTrue();
+        assertThat(denylist.isRevoked("jti-2")).isFalse();
+        denylist.close();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 보관하지 않는다")
+    void shouldIgnoreExpiredToken() throws Exception {
+        TokenDenylist denylist = open();
+
+        assertThat(denylist.revoke("expired", System.currentTimeMillis() - 1)).isFalse();
+        assertThat(denylist.size()).isZero();
+        denylist.close();
+    }
+
+    @Test
+    @DisplayName("재시작하면 파일에서 아직 만료되지 않은 폐기 내역만 복구한다")
+    void shouldReloadFromFile() throws Exception {
+        long now = System.currentTimeMillis();
+        Files.write(dir.resolve("denylist.log"), List.of(
+                "alive " + (now + 60_000),
+                "dead " + (now - 60_000),
+                "broken-line"));
+
+        TokenDenylist denylist = open();
+
+        assertThat(denylist.isRevoked("alive")).isTrue();
+        assertThat(denylist.isRevoked("dead")).isFalse();
+        assertThat(denylist.size()).isEqualTo(1);
+        // 로드하면서 파일도 살아있는 항목만 남도록 정리됨
+        assertThat(Files.readAllLines(dir.resolve("denylist.log"))).hasSize(1);
+        denylist.close();
+
+        denylist = open();
+        denylist.revoke("new", now + 60_000);
+        denylist.close();
+
+        TokenDenylist restarted = open();
+        assertThat(restarted.isRevoked("alive")).isTrue();
+        assertThat(restarted.isRevoked("new")).isTrue();
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 버킷은 정리된다")
+    void shouldPurgeExpiredBuckets() throws Exception {
+        TokenDenylist denylist = open();
+        denylist.revoke("short", System.currentTimeMillis() + 1_100);
+        denylist.revoke("long", System.currentTimeMillis() + 60_000);
+
+        Thread.sleep(2_100);
+        denylist.purgeExpired();
+
+        assertThat(denylist.isRevoked("short")).isFalse();
+        assertThat(denylist.isRevoked("long")).isTrue();
+        assertThat(denylist.size()).isEqualTo(1);
+        denylist.close();
+    }
+
+    @Test
+    @DisplayName("파일에 기록하지 못해도 예외 없이 메모리에는 폐기 상태가 남는다")
+    void shouldKeepRevocationWhenFileWriteFails() throws Exception {
+        TokenDenylist denylist = open();
+        denylist.close(); // 이후 append 는 닫힌 writer 라 IOException
+
+        assertThat(denylist.revoke("jti-1", System.currentTimeMillis() + 60_000)).isTrue();
+        assertThat(denylist.isRevoked("jti-1")).isTrue();
+    }
+
+    private TokenDenylist open() throws Exception {
+        TokenDenylist denylist = new TokenDenylist(dir.resolve("denylist.log").toString(), 1);
+        denylist.load();
+        return denylist;
+    }
+}
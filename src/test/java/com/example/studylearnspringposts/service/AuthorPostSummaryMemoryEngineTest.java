@@ -0,0 +1,87 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.AuthorPostSummaryDto;
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * memory 저장소 엔진에서의 AuthorPostSummaryService 테스트
+ * post 테이블이 비어 있어도 삭제 / 작성자 변경 후 최신 목록이 메모리 저장소 기준으로 유지되는지 확인
+ * 재집계가 없으므로 남은 게시글은 서비스로 삭제해서 요약도 0건으로 되돌림
+ */
+@SpringBootTest(properties = "post.store.engine=memory")
+class AuthorPostSummaryMemoryEngineTest {
+
+    private static final String AUTHOR = "메모리작성자";
+    private static final String OTHER_AUTHOR = "메모리작성자2";
+
+    @Autowired
+    private AuthorPostSummaryService authorPostSummaryService;
+
+    @Autowired
+    private PostService postService;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (Long id : createdIds) {
+            if (postService.getPostById(id).isPresent()) {
+                postService.deletePost(id, new PostRequestDto(null, null, "pass1234", null));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("최신 게시글을 삭제해도 나머지 게시글이 최신 목록과 마지막 작성 시각에 남는다")
+    void shouldKeepLatestAfterDelete() {
+        Post first = createPost(AUTHOR);
+        Post second = createPost(AUTHOR);
+
+        postService.deletePost(second.getId(), new PostRequestDto("제목", AUTHOR, "pass1234", "내용"));
+
+        AuthorPostSummaryDto summary = authorPostSummaryService.getSummary(AUTHOR);
+        assertThat(summary.getPostCount()).isEqualTo(1);
+        assertThat(summary.getLatestPostIds()).containsExactly(first.getId());
+        assertThat(summary.getLastPostDate()).isEqualTo(first.getWriteDate());
+    }
+
+    @Test
+    @DisplayName("작성자가 바뀐 게시글은 새 작성자의 최신 목록에 들어간다")
+    void shouldMovePostOnAuthorChange() {
+        Post post = createPost(AUTHOR);
+
+        postService.updatePost(post.getId(), new PostRequestDto("제목", OTHER_AUTHOR, "pass1234", "내용"));
+
+        AuthorPostSummaryDto moved = authorPostSummaryService.getSummary(OTHER_AUTHOR);
+        assertThat(moved.getPostCount()).isEqualTo(1);
+        assertThat(moved.getLatestPostIds()).containsExactly(post.getId());
+        assertThat(moved.getLastPostDate()).isNotNull();
+        assertThat(authorPostSummaryService.getSummary(AUTHOR).getPostCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("memory 엔진에서는 post 테이블로 재집계하지 않는다")
+    void shouldSkipReconcile() {
+        createPost(AUTHOR);
+
+        assertThat(authorPostSummaryService.reconcile()).isZero();
+        assertThat(authorPostSummaryService.getSummary(AUTHOR).getPostCount()).isEqualTo(1);
+    }
+
+    private Post createPost(String author) {
+        Post post = postService.createPost(new PostRequestDto("메모리 게시글", author, "pass1234", "내용").toEntity());
+        createdIds.add(post.getId());
+        return post;
+    }
+}
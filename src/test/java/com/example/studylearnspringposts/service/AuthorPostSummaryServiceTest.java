@@ -0,0 +1,132 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.AuthorPostSummaryDto;
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuthorPostSummaryService 테스트
+ * 요약은 커밋된 뒤 별도 트랜잭션으로 갱신되므로 테스트 트랜잭션 없이 실제로 저장하고, 끝나면 직접 삭제
+ */
+@SpringBootTest
+class AuthorPostSummaryServiceTest {
+
+    private static final String AUTHOR = "요약작성자";
+    private static final String OTHER_AUTHOR = "요약작성자2";
+    private static final String STALE_AUTHOR = "요약작성자3";
+
+    @Autowired
+    private AuthorPostSummaryService authorPostSummaryService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(id -> jdbcTemplate.update("DELETE FROM post WHERE id = ?", id));
+        authorPostSummaryService.reconcile(); // 게시글이 없어진 작성자의 요약 행 / 맵 항목 정리
+    }
+
+    @Test
+    @DisplayName("작성 / 삭제가 커밋되면 게시글 수와 최신 게시글 목록이 갱신된다")
+    void shouldUpdateOnCreateAndDelete() {
+        Long first = createPost(AUTHOR);
+        Long second = createPost(AUTHOR);
+        Long third = createPost(AUTHOR);
+
+        AuthorPostSummaryDto created = authorPostSummaryService.getSummary(AUTHOR);
+        assertThat(created.getPostCount()).isEqualTo(3);
+        assertThat(created.getLatestPostIds()).containsExactly(third, second, first);
+        assertThat(created.getLastPostDate()).isNotNull();
+
+        postService.deletePost(third, new PostRequestDto("제목", AUTHOR, "pass1234", "내용"));
+
+        AuthorPostSummaryDto deleted = authorPostSummaryService.getSummary(AUTHOR);
+        assertThat(deleted.getPostCount()).isEqualTo(2);
+        assertThat(deleted.getLatestPostIds()).containsExactly(second, first);
+        assertThat(deleted.getLastPostDate()).isEqualTo(writeDateOf(second));
+    }
+
+    @Test
+    @DisplayName("수정으로 작성자가 바뀌면 이전 작성자에서 빠지고 새 작성자에 더해진다")
+    void shouldMovePostOnAuthorChange() {
+        Long id = createPost(AUTHOR);
+        createPost(AUTHOR);
+
+        postService.updatePost(id, new PostRequestDto("제목", OTHER_AUTHOR, "pass1234", "내용"));
+
+        assertThat(authorPostSummaryService.getSummary(AUTHOR).getPostCount()).isEqualTo(1);
+        assertThat(authorPostSummaryService.getSummary(AUTHOR).getLatestPostIds()).doesNotContain(id);
+        assertThat(authorPostSummaryService.getSummary(OTHER_AUTHOR).getPostCount()).isEqualTo(1);
+        assertThat(authorPostSummaryService.getSummary(OTHER_AUTHOR).getLatestPostIds()).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("롤백된 작성은 요약에 반영되지 않는다")
+    void shouldIgnoreRolledBackWrites() {
+        createPost(AUTHOR);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.createPost(new PostRequestDto("롤백", AUTHOR, "pass1234", "내용").toEntity());
+            status.setRollbackOnly();
+        });
+
+        assertThat(authorPostSummaryService.getSummary(AUTHOR).getPostCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재집계는 어긋난 요약을 post 테이블 기준으로 고치고, 게시글이 없는 작성자의 행은 지운다")
+    void shouldReconcileFromBaseTable() {
+        Long first = createPost(AUTHOR);
+        Long second = createPost(AUTHOR);
+        authorPostSummaryService.getSummary(AUTHOR);
+        // 요약을 거치지 않은 변경 / 잘못된 요약 흉내
+        jdbcTemplate.update("UPDATE post SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?", second);
+        jdbcTemplate.update("UPDATE author_post_summary SET post_count = 99, version = version + 1 WHERE author = ?",
+                AUTHOR);
+        jdbcTemplate.update("INSERT INTO author_post_summary (author, post_count, last_post_date, latest_post_ids, "
+                + "version, updated_at) VALUES (?, 5, NULL, '', 1, ?)", STALE_AUTHOR, Timestamp.valueOf(LocalDateTime.now()));
+
+        authorPostSummaryService.reconcile();
+
+        AuthorPostSummaryDto reconciled = authorPostSummaryService.getSummary(AUTHOR);
+        assertThat(reconciled.getPostCount()).isEqualTo(1);
+        assertThat(reconciled.getLatestPostIds()).containsExactly(first);
+        assertThat(authorPostSummaryService.getSummary(STALE_AUTHOR).getPostCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM author_post_summary WHERE author = ?",
+                Integer.class, STALE_AUTHOR)).isZero();
+    }
+
+    private Long createPost(String author) {
+        Post post = postService.createPost(new PostRequestDto("요약 게시글", author, "pass1234", "내용").toEntity());
+        createdIds.add(post.getId());
+        return post.getId();
+    }
+
+    private LocalDateTime writeDateOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT write_date FROM post WHERE id = ?", Timestamp.class, id)
+                .toLocalDateTime();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.controller.PostController;
+import com.example.studylearnspringposts.domain.comment.vo.Comment;
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.CommentPageDto;
+import com.example.studylearnspringposts.dto.CommentResponseDto;
+import com.example.studylearnspringposts.dto.PostResponseDto;
+import com.example.studylearnspringposts.repository.CommentRepository;
+import com.example.studylearnspringposts.repository.PostRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 조회 쿼리 수 테스트
+ * Hibernate 통계로 요청 1번에 실행되는 SQL 수가 페이지 크기와 상관없이 일정한지 확인
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CommentQueryCountTest {
+    private static final Logger log = LoggerFactory.getLogger(CommentQueryCountTest.class);
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostController postController;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("게시글 " + i).author("작성자").password("pass1234").content("내용")
+                    .writeDate(LocalDateTime.now())
+                    .build());
+            postIds.add(post.getId());
+            for (int j = 0; j < 3; j++) {
+                comments.add(comment(post.getId(), "댓글 " + j));
+            }
+        }
+        for (int j = 0; j < 120; j++) {
+            comments.add(comment(postIds.get(0), "첫 게시글 댓글 " + j));
+        }
+        commentRepository.saveAllAndFlush(comments);
+    }
+
+    @Test
+    @DisplayName("댓글 페이지 조회는 페이지 크기와 상관없이 쿼리 1번")
+    void commentPageUsesOneQueryRegardlessOfSize() {
+        long small = countStatements(() -> commentService.getComments(postIds.get(0), null, 5));
+        long large = countStatements(() -> commentService.getComments(postIds.get(0), null, 100));
+
+        log.info("댓글 페이지 쿼리 수 - size=5: {}, size=100: {}", small, large);
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("게시글 여러 개의 댓글 수는 게시글 개수와 상관없이 집계 쿼리 1번")
+    void commentCountsUseOneQueryRegardlessOfPostCount() {
+        long small = countStatements(() -> commentService.countByPostIds(postIds.subList(0, 5)));
+        long large = countStatements(() -> commentService.countByPostIds(postIds));
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+
+        Map<Long, Long> counts = commentService.countByPostIds(postIds);
+        assertThat(counts.get(postIds.get(0))).isEqualTo(123);
+        assertThat(counts.get(postIds.get(1))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회는 게시글 수가 늘어도 쿼리 수가 같다 (목록 1번 + 댓글 수 집계 1번)")
+    void postListQueryCountIsConstant() {
+        long before = countStatements(() -> postController.getAllPosts());
+
+        for (int i = 0; i < 20; i++) {
+            postRepository.save(Post.builder()
+                    .title("추가 게시글 " + i).author("작성자").password("pass1234").content("내용")
+                    .writeDate(LocalDateTime.now())
+                    .build());
+        }
+        AtomicReference<List<PostResponseDto>> result = new AtomicReference<>();
+        long after = countStatements(() -> result.set(postController.getAllPosts()));
+
+        log.info("게시글 목록 쿼리 수 - 추가 전: {}, 추가 후: {}", before, after);
+        assertThat(before).isEqualTo(2);
+        assertThat(after).isEqualTo(before);
+        assertThat(result.get()).filteredOn(post -> post.getId().equals(postIds.get(0)))
+                .extracting(PostResponseDto::getCommentCount).containsExactly(123L);
+    }
+
+    @Test
+    @DisplayName("keyset 페이지를 따라가면 모든 댓글을 중복 없이 순서대로 읽는다")
+    void keysetPagesCoverAllComments() {
+        Set<Long> seen = new HashSet<>();
+        Long cursor = null;
+        Long lastId = 0L;
+        int pages = 0;
+        do {
+            CommentPageDto page = commentService.getComments(postIds.get(0), cursor, 50);
+            for (CommentResponseDto comment : page.getComments()) {
+                assertThat(comment.getId()).isGreaterThan(lastId);
+                lastId = comment.getId();
+                seen.add(comment.getId());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(123);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Comment comment(Long postId, String content) {
+        return Comment.builder()
+                .postId(postId).author("댓글러").content(content).writeDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.cache.CacheInvalidationBus;
+import com.example.studylearnspringposts.cache.LocalInvalidationTransport;
+import com.example.studylearnspringposts.domain.user.vo.User;
+import com.example.studylearnspringposts.repository.MyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomUserDetailsServiceTest {
+
+    private final MyRepository myRepository = mock(MyRepository.class);
+    private final CustomUserDetailsService service = new CustomUserDetailsService(
+            myRepository, new UsernameFilter(myRepository,
+                    new CacheInvalidationBus(new LocalInvalidationTransport(), 100), 100, 0.01), 100, 300);
+
+    @Test
+    @DisplayName("같은 사용자를 두 번 조회하면 DB 는 한 번만 조회한다")
+    void shouldCacheUserDetails() {
+        when(myRepository.findByUsername("testuser"))
+                .thenReturn(Optional.of(new User("testuser", "{bcrypt}hash", "ROLE_USER")));
+
+        UserDetails first = service.loadUserByUsername("testuser");
+        UserDetails second = service.loadUserByUsername("testuser");
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(myRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("evict 후에는 변경된 권한을 다시 읽어온다")
+    void shouldReloadAfterEvict() {
+        when(myRepository.findByUsername("testuser"))
+                .thenReturn(Optional.of(new User("testuser", "{bcrypt}hash", "ROLE_USER")))
+                .thenReturn(Optional.of(new User("testuser", "{bcrypt}hash", "ROLE_ADMIN")));
+
+        service.loadUserByUsername("testuser");
+        service.evict("testuser");
+        UserDetails reloaded = service.loadUserByUsername("testuser");
+
+        assertThat(reloaded.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        verify(myRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않고 예외를 던진다")
+    void shouldThrowWhenUserNotFound() {
+        when(myRepository.findByUsername("nobody")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nobody"));
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nobody"));
+        verify(myRepository, times(2)).findByUsername("nobody");
+    }
+}
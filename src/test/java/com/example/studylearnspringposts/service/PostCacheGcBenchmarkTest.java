@@ -0,0 +1,107 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.cache.CacheInvalidationBus;
+import com.example.studylearnspringposts.cache.LocalInvalidationTransport;
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * [벤치마크] 본문이 큰 게시글을 캐시했을 때 GC 시간, 힙만 쓰는 캐시 vs L1 힙 / L2 off-heap 2계층
+ * - 두 경우 모두 같은 게시글(POSTS 개, 본문 CONTENT_LENGTH 자)을 전부 캐시에 채운 뒤
+ *   무작위 조회 + 요청 처리 같은 단명 / 중간 수명 할당을 섞어서 반복
+ * - 반복 구간의 GC 횟수 / 누적 시간과 전체 GC(System.gc()) 한 번의 시간, 채운 뒤 힙 사용량을 로그로 남김
+ */
+@Tag("benchmark")
+class PostCacheGcBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(PostCacheGcBenchmarkTest.class);
+
+    private static final int POSTS = 6_000;
+    private static final int CONTENT_LENGTH = 16 * 1024;
+    private static final int READS = 300_000;
+
+    @Test
+    @DisplayName("[벤치마크] 힙 캐시 / 2계층 캐시의 GC 시간")
+    void measureGcPauses() {
+        run("heap", new PostCache(bus(), true, POSTS, 600, Integer.MAX_VALUE, 0, 4 * 1024 * 1024, 1024));
+        run("tiered", new PostCache(bus(), true, 1_000, 600, 4096, 192L * 1024 * 1024, 4 * 1024 * 1024, 1024));
+    }
+
+    private void run(String name, PostCache cache) {
+        Random random = new Random(42);
+        String content = "x".repeat(CONTENT_LENGTH);
+        for (long id = 1; id <= POSTS; id++) {
+            Post post = post(id, content);
+            cache.get(id, key -> Optional.of(post));
+        }
+        fullGc();
+        long heapUsed = usedHeap();
+
+        // 요청 처리 중 잠깐 살아있는 객체 흉내 - 최근 것만 유지하는 큐
+        Deque<byte[]> inFlight = new ArrayDeque<>();
+        long sink = 0;
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long started = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            long id = 1 + random.nextInt(POSTS);
+            Post post = cache.get(id, key -> Optional.empty()).orElseThrow();
+            sink += post.getContent().length();
+            inFlight.addLast(new byte[2048]);
+            if (inFlight.size() > 1_000) {
+                inFlight.removeFirst();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        long churnGcCount = gcCount() - gcCount;
+        long churnGcMillis = gcMillis() - gcMillis;
+
+        long fullGcStarted = System.nanoTime();
+        fullGc();
+        long fullGcMillis = (System.nanoTime() - fullGcStarted) / 1_000_000;
+
+        log.info("[cache-gc] {} - heap {} MB, reads {} /s, GC {}회 {} ms, 전체 GC {} ms, stats l1 {} / l2 {} ({} MB off-heap) (sink={})",
+                name, heapUsed / (1024 * 1024), Math.round(READS / seconds), churnGcCount, churnGcMillis, fullGcMillis,
+                cache.getStats().getL1Size(), cache.getStats().getL2Size(),
+                cache.getStats().getL2AllocatedBytes() / (1024 * 1024), sink);
+    }
+
+    private static CacheInvalidationBus bus() {
+        return new CacheInvalidationBus(new LocalInvalidationTransport(), 500);
+    }
+
+    private static Post post(long id, String content) {
+        return Post.builder().id(id).title("게시글 " + id).author("벤치").password("bench1234").content(content)
+                .writeDate(LocalDateTime.now()).views(0L).build();
+    }
+
+    private static void fullGc() {
+        System.gc();
+        System.gc();
+    }
+
+    private static long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.cache.CacheInvalidationBus;
+import com.example.studylearnspringposts.cache.LocalInvalidationTransport;
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.PostCacheStatsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostCacheTest {
+
+    private static final int HEAP_MAX_CONTENT_LENGTH = 100;
+
+    private final CacheInvalidationBus bus = new CacheInvalidationBus(new LocalInvalidationTransport(), 100);
+    private final PostCache cache = new PostCache(bus, true, 10, 60, HEAP_MAX_CONTENT_LENGTH,
+            1024 * 1024, 64 * 1024, 256);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("본문이 큰 게시글은 off-heap 계층에만 두고, 꺼낸 값은 원본과 같다")
+    void shouldKeepLargePostsOffHeap() {
+        Post original = post(1L, "긴 본문 ".repeat(1000));
+
+        cache.get(1L, id -> load(original));
+        Post cached = cache.get(1L, id -> load(original)).orElseThrow();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cached).usingRecursiveComparison().isEqualTo(original);
+        PostCacheStatsDto stats = cache.getStats();
+        assertThat(stats.getL1Size()).isZero();
+        assertThat(stats.getL2Size()).isEqualTo(1);
+        assertThat(stats.getL2Hits()).isEqualTo(1);
+        assertThat(stats.getL2UsedBytes()).isGreaterThan(5000);
+    }
+
+    @Test
+    @DisplayName("본문이 작은 게시글은 L1 에서 먼저 찾고, L1 에서 밀려나도 L2 에서 다시 올린다")
+    void shouldServeSmallPostsFromHeapAndPromoteFromOffHeap() {
+        cache.get(1L, id -> load(post(id, "짧은 본문")));
+        cache.get(1L, id -> load(post(id, "짧은 본문")));
+        assertThat(cache.getStats().getL1Hits()).isEqualTo(1);
+
+        for (long id = 2; id <= 11; id++) {   // L1 최대 10개 - 1번이 밀려남
+            cache.get(id, key -> load(post(key, "짧은 본문")));
+        }
+        Post promoted = cache.get(1L, id -> load(post(id, "짧은 본문"))).orElseThrow();
+        cache.get(1L, id -> load(post(id, "짧은 본문")));
+
+        assertThat(loads).hasValue(11);
+        assertThat(promoted.getContent()).isEqualTo("짧은 본문");
+        PostCacheStatsDto stats = cache.getStats();
+        assertThat(stats.getL2Hits()).isEqualTo(1);
+        assertThat(stats.getL1Hits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("분리 저장된 본문과 비어 있는 날짜도 그대로 보관하고, 제거하면 두 계층에서 모두 사라진다")
+    void shouldRoundTripExternalContentAndEvictBothTiers() {
+        Post external = Post.builder().id(7L).title("제목").author("작성자").password("pw")
+                .content("").contentExternal(true).externalContent("분리 저장된 본문 ".repeat(50))
+                .views(3L).build();
+
+        cache.get(7L, id -> load(external));
+        Post cached = cache.get(7L, id -> load(external)).orElseThrow();
+        assertThat(cached).usingRecursiveComparison().isEqualTo(external);
+
+        cache.evictLocal(List.of(7L));
+        cache.get(7L, id -> load(external));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<Post> load(Post post) {
+        loads.incrementAndGet();
+        return Optional.of(post);
+    }
+
+    private static Post post(Long id, String content) {
+        Post post = Post.builder().id(id).title("게시글 " + id).author("작성자").password("pw").content(content)
+                .writeDate(LocalDateTime.of(2025, 6, 20, 11, 30, 0, 123_456_789)).views(10L).build();
+        post.setCreatedDate(LocalDateTime.of(2025, 6, 20, 11, 30));
+        return post;
+    }
+}
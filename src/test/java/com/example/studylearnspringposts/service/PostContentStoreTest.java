@@ -0,0 +1,91 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 분리 저장 (post.content.storage=table) 테스트
+ */
+@SpringBootTest(properties = {"post.content.storage=table", "post.content.external-threshold=100"})
+@Transactional
+class PostContentStoreTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("기준보다 큰 본문은 post_content 에 압축해서 저장하고, post 행에는 플래그만 남긴다")
+    void shouldStoreLargeBodySeparately() {
+        String body = "긴 본문입니다. ".repeat(200);
+
+        Long id = createPost(body);
+        flushAndClear();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM post WHERE id = ?", String.class, id)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT compressed FROM post_content WHERE post_id = ?", Boolean.class, id)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT LENGTH(data) FROM post_content WHERE post_id = ?", Integer.class, id))
+                .isLessThan(body.getBytes().length);
+
+        assertThat(postService.getPostById(id)).get().extracting(Post::getContent).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("작은 본문은 지금처럼 post 행에 저장한다")
+    void shouldKeepSmallBodyInline() {
+        Long id = createPost("짧은 본문");
+        flushAndClear();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM post WHERE id = ?", String.class, id)).isEqualTo("짧은 본문");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_content WHERE post_id = ?", Long.class, id)).isZero();
+    }
+
+    @Test
+    @DisplayName("큰 본문을 작게 수정하면 분리본을 지우고 다시 post 행에 저장한다")
+    void shouldMoveBodyBackInlineOnUpdate() {
+        Long id = createPost("큰 본문 ".repeat(100));
+        flushAndClear();
+
+        postService.updatePost(id, new PostRequestDto("제목", "작성자", "pass1234", "작아진 본문"));
+        flushAndClear();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_content WHERE post_id = ?", Long.class, id)).isZero();
+        assertThat(postService.getPostById(id)).get().extracting(Post::getContent).isEqualTo("작아진 본문");
+    }
+
+    @Test
+    @DisplayName("목록 조회는 분리된 본문을 한 번에 채운다")
+    void shouldLoadBodiesForList() {
+        String body = "목록 본문 ".repeat(100);
+        Long id = createPost(body);
+        flushAndClear();
+
+        assertThat(postService.getAllPosts())
+                .filteredOn(post -> post.getId().equals(id))
+                .extracting(Post::getContent)
+                .containsExactly(body);
+    }
+
+    private Long createPost(String content) {
+        return postService.createPost(new PostRequestDto("제목", "작성자", "pass1234", content).toEntity()).getId();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
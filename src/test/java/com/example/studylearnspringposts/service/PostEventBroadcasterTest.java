@@ -0,0 +1,67 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.event.PostChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostEventBroadcaster 링 버퍼 / 재전송 테스트
+ */
+class PostEventBroadcasterTest {
+
+    // 링 버퍼 3칸, 구독자 버퍼 4칸
+    private final PostEventBroadcaster broadcaster = new PostEventBroadcaster(3, 4, 60000, 30, 1);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후의 이벤트만 순서대로 재전송한다")
+    void shouldReplayEventsAfterLastEventId() {
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.publish(PostChangedEvent.deleted(id));
+        }
+
+        Optional<List<PostEventBroadcaster.StreamEvent>> replay = broadcaster.replayAfter(3);
+
+        assertThat(replay).isPresent();
+        assertThat(replay.get()).extracting(PostEventBroadcaster.StreamEvent::sequence).containsExactly(4L, 5L);
+        assertThat(replay.get()).extracting(PostEventBroadcaster.StreamEvent::name).containsOnly("DELETED");
+    }
+
+    @Test
+    @DisplayName("최신 이벤트까지 받은 구독자에게는 재전송할 이벤트가 없다")
+    void shouldReplayNothingWhenUpToDate() {
+        broadcaster.publish(PostChangedEvent.deleted(1L));
+
+        assertThat(broadcaster.replayAfter(1)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("링 버퍼에서 밀려난 id 나 알 수 없는 id 는 재전송 불가로 판단한다")
+    void shouldRequireResetWhenOutOfRange() {
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.publish(PostChangedEvent.deleted(id));
+        }
+
+        assertThat(broadcaster.replayAfter(1)).isEmpty();   // 2번은 이미 밀려남
+        assertThat(broadcaster.replayAfter(100)).isEmpty(); // 재시작 전 id
+    }
+
+    @Test
+    @DisplayName("구독하면 구독자 수가 늘어난다")
+    void shouldRegisterSubscriber() {
+        broadcaster.subscribe(null);
+        broadcaster.subscribe("0");
+
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+    }
+}
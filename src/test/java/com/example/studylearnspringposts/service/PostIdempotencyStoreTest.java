@@ -0,0 +1,110 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import com.example.studylearnspringposts.dto.PostResponseDto;
+import com.example.studylearnspringposts.exception.IdempotencyKeyConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostIdempotencyStoreTest {
+
+    private final PostIdempotencyStore store = new PostIdempotencyStore(100, 60, 5000);
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicInteger creates = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키의 재시도는 다시 작성하지 않고 처음 응답을 돌려준다")
+    void shouldReplayStoredResponse() {
+        PostResponseDto first = store.execute("key-1", request("제목"), this::create);
+        PostResponseDto retry = store.execute("key-1", request("제목"), this::create);
+        PostResponseDto other = store.execute("key-2", request("제목"), this::create);
+
+        assertThat(retry).isSameAs(first);
+        assertThat(other.getId()).isNotEqualTo(first.getId());
+        assertThat(creates).hasValue(2);
+        assertThat(store.getReplayCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 본문으로 쓰면 거절한다")
+    void shouldRejectDifferentRequestWithSameKey() {
+        store.execute("key-1", request("제목"), this::create);
+
+        assertThatThrownBy(() -> store.execute("key-1", request("다른 제목"), this::create))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThat(creates).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("작성이 실패하면 같은 키로 다시 시도할 수 있다")
+    void shouldReleaseKeyOnFailure() {
+        assertThatThrownBy(() -> store.execute("key-1", request("제목"), () -> {
+            throw new IllegalStateException("DB 장애");
+        })).isInstanceOf(IllegalStateException.class);
+
+        PostResponseDto response = store.execute("key-1", request("제목"), this::create);
+
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(creates).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 들어온 요청은 먼저 온 요청의 결과를 함께 받는다")
+    void shouldCoalesceConcurrentDuplicates() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<PostResponseDto>> futures = new ArrayList<>();
+
+        futures.add(executor.submit(() -> store.execute("key-1", request("제목"), () -> {
+            started.countDown();
+            await(release);
+            return create();
+        })));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 15; i++) {
+            futures.add(executor.submit(() -> store.execute("key-1", request("제목"), this::create)));
+        }
+        release.countDown();
+
+        List<Long> ids = new ArrayList<>();
+        for (Future<PostResponseDto> future : futures) {
+            ids.add(future.get(5, TimeUnit.SECONDS).getId());
+        }
+        executor.shutdown();
+
+        assertThat(ids).containsOnly(1L);
+        assertThat(creates).hasValue(1);
+        assertThat(store.getExecutionCount()).isEqualTo(1);
+    }
+
+    private PostResponseDto create() {
+        creates.incrementAndGet();
+        return PostResponseDto.builder().id(nextId.getAndIncrement()).title("제목").build();
+    }
+
+    private static PostRequestDto request(String title) {
+        return new PostRequestDto(title, "작성자", "pass1234", "내용");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.comment.vo.Comment;
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import com.example.studylearnspringposts.repository.CommentRepository;
+import com.example.studylearnspringposts.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * soft delete / PostPurgeJob 테스트
+ * 정리 작업이 자체 트랜잭션으로 동작하므로 테스트 트랜잭션 없이 실제로 저장
+ */
+@SpringBootTest
+class PostPurgeJobTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("삭제하면 플래그만 남고 모든 조회에서 제외된다")
+    void shouldSoftDelete() {
+        Long id = createPost("삭제될 게시글");
+
+        postService.deletePost(id, new PostRequestDto(null, null, "pass1234", null));
+
+        assertThat(postService.getPostById(id)).isEmpty();
+        assertThat(postRepository.findAllByOrderByWriteDateDesc()).extracting(Post::getId).doesNotContain(id);
+        assertThat(postRepository.existsById(id)).isFalse();
+        // 행은 그대로 남아 있고 deleted_at 만 채워짐
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post WHERE id = ? AND deleted_at IS NOT NULL", Long.class, id)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리 작업은 삭제된 게시글과 댓글을 배치 크기만큼씩 실제로 삭제한다")
+    void shouldPurgeInBatches() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long id = createPost("정리 대상 " + i);
+            commentRepository.save(Comment.builder()
+                    .postId(id).author("댓글러").content("댓글").writeDate(LocalDateTime.now()).build());
+            postService.deletePost(id, new PostRequestDto(null, null, "pass1234", null));
+            ids.add(id);
+        }
+        Long alive = createPost("남아있을 게시글");
+
+        PostPurgeJob job = new PostPurgeJob(jdbcTemplate, transactionTemplate, "00:00", "00:00", 2, 0, 0);
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+
+        List<Integer> batches = new ArrayList<>();
+        int deleted;
+        while ((deleted = job.purgeBatch(cutoff)) > 0) {
+            batches.add(deleted);
+        }
+
+        assertThat(batches).allMatch(count -> count <= 2);
+        assertThat(batches.stream().mapToInt(Integer::intValue).sum()).isGreaterThanOrEqualTo(5);
+        for (Long id : ids) {
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post WHERE id = ?", Long.class, id)).isZero();
+            assertThat(commentRepository.countByPostId(id)).isZero();
+        }
+        assertThat(postRepository.existsById(alive)).isTrue();
+        jdbcTemplate.update("DELETE FROM post WHERE id = ?", alive);
+    }
+
+    @Test
+    @DisplayName("정리 작업은 한 번 실행될 때 배치 하나만 삭제하고 다음 실행에서 이어간다")
+    void shouldPurgeOneBatchPerRun() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long id = createPost("나눠서 정리 " + i);
+            postService.deletePost(id, new PostRequestDto(null, null, "pass1234", null));
+            ids.add(id);
+        }
+        PostPurgeJob job = new PostPurgeJob(jdbcTemplate, transactionTemplate, "00:00", "00:00", 2, 0, 0);
+
+        job.run();
+        assertThat(remaining(ids)).isGreaterThanOrEqualTo(3);
+
+        for (int i = 0; i < 10 && remaining(ids) > 0; i++) {
+            job.run();
+        }
+        assertThat(remaining(ids)).isZero();
+    }
+
+    @Test
+    @DisplayName("grace period 가 지나지 않은 게시글은 정리하지 않는다")
+    void shouldKeepRecentlyDeletedPosts() {
+        Long id = createPost("방금 삭제");
+        postService.deletePost(id, new PostRequestDto(null, null, "pass1234", null));
+
+        PostPurgeJob job = new PostPurgeJob(jdbcTemplate, transactionTemplate, "00:00", "00:00", 100, 0, 60);
+        job.purgeBatch(LocalDateTime.now().minusMinutes(60));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post WHERE id = ?", Long.class, id)).isEqualTo(1);
+        jdbcTemplate.update("DELETE FROM post WHERE id = ?", id);
+    }
+
+    @Test
+    @DisplayName("실행 시간대는 자정을 넘는 구간도 지원한다")
+    void shouldCheckWindow() {
+        PostPurgeJob daytime = new PostPurgeJob(jdbcTemplate, transactionTemplate, "02:00", "05:00", 100, 0, 0);
+        assertThat(daytime.isInWindow(LocalTime.of(2, 0))).isTrue();
+        assertThat(daytime.isInWindow(LocalTime.of(4, 59))).isTrue();
+        assertThat(daytime.isInWindow(LocalTime.of(5, 0))).isFalse();
+
+        PostPurgeJob overnight = new PostPurgeJob(jdbcTemplate, transactionTemplate, "23:00", "01:00", 100, 0, 0);
+        assertThat(overnight.isInWindow(LocalTime.of(23, 30))).isTrue();
+        assertThat(overnight.isInWindow(LocalTime.of(0, 30))).isTrue();
+        assertThat(overnight.isInWindow(LocalTime.of(12, 0))).isFalse();
+    }
+
+    private long remaining(List<Long> ids) {
+        return ids.stream()
+                .filter(id -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post WHERE id = ?", Long.class, id) > 0)
+                .count();
+    }
+
+    private Long createPost(String title) {
+        return postService.createPost(new PostRequestDto(title, "작성자", "pass1234", "내용").toEntity()).getId();
+    }
+}
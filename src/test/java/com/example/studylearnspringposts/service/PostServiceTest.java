@@ -0,0 +1,55 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.cache.CacheInvalidationBus;
+import com.example.studylearnspringposts.cache.LocalInvalidationTransport;
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.outbox.PostOutbox;
+import com.example.studylearnspringposts.repository.PostStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostServiceTest {
+
+    private final PostStore postStore = mock(PostStore.class);
+    private final PostCache postCache = new PostCache(
+            new CacheInvalidationBus(new LocalInvalidationTransport(), 100), true, 100, 60, 4096,
+            1024 * 1024, 64 * 1024, 256);
+    private final PostService postService = new PostService(postStore, mock(PostContentStore.class), postCache,
+            mock(PostOutbox.class), mock(AuthorPostSummaryService.class), mock(ApplicationEventPublisher.class));
+
+    @Test
+    @DisplayName("여러 건 조회 시 캐시에 있는 id 는 저장소로 보내지 않고 없는 id 만 한 번에 읽는다")
+    void shouldLoadOnlyUncachedIds() {
+        when(postStore.findById(1L)).thenReturn(Optional.of(post(1L)));
+        when(postStore.findById(2L)).thenReturn(Optional.of(post(2L)));
+        postService.getPostById(1L);
+        postService.getPostById(2L);
+        when(postStore.findAllById(anyCollection())).thenReturn(List.of(post(3L)));
+
+        List<Post> posts = postService.getPostsByIds(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(posts).extracting(Post::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(postStore).findAllById(List.of(3L, 4L));
+
+        // 방금 읽은 3번도 캐시되어 다시 저장소로 가지 않음
+        when(postStore.findAllById(anyCollection())).thenReturn(List.of());
+        assertThat(postService.getPostsByIds(List.of(1L, 3L))).extracting(Post::getId)
+                .containsExactlyInAnyOrder(1L, 3L);
+        verify(postStore).findAllById(anyCollection());
+    }
+
+    private static Post post(Long id) {
+        return Post.builder().id(id).title("게시글 " + id).author("작성자").password("pw").content("내용")
+                .views(0L).build();
+    }
+}
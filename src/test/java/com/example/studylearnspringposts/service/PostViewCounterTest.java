@@ -0,0 +1,131 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.domain.post.vo.Post;
+import com.example.studylearnspringposts.dto.PostRequestDto;
+import com.example.studylearnspringposts.dto.PostViewCountDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostViewCounter 테스트
+ * flush 는 별도 커넥션으로 UPDATE 하므로 테스트 트랜잭션 없이 실제로 저장하고, 끝나면 직접 삭제
+ */
+@SpringBootTest
+class PostViewCounterTest {
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(id -> jdbcTemplate.update("DELETE FROM post WHERE id = ?", id));
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 조회해도 flush 후 DB 조회수가 정확히 반영된다")
+    void shouldFlushConcurrentViews() throws Exception {
+        Long id = createPost("동시 조회");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    postViewCounter.record(id);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        postViewCounter.flush();
+
+        assertThat(viewsOf(id)).isEqualTo(8000);
+        assertThat(postViewCounter.getPending(id)).isZero();
+    }
+
+    @Test
+    @DisplayName("flush 가 빈 항목을 제거하는 중에 들어온 조회도 유실되지 않는다")
+    void shouldNotLoseViewsRecordedDuringFlush() throws Exception {
+        Long id = createPost("flush 중 조회");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    postViewCounter.record(id);
+                    Thread.yield(); // flush 가 합계 0 인 항목을 자주 만나도록 간격을 둠
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.isTerminated()) {
+            postViewCounter.flush();
+        }
+        postViewCounter.flush();
+
+        assertThat(viewsOf(id)).isEqualTo(20_000);
+        assertThat(postViewCounter.getPending(id)).isZero();
+    }
+
+    @Test
+    @DisplayName("조회수 상위 게시글은 조회수 내림차순으로 반환된다")
+    void shouldRankMostViewedPosts() {
+        Long first = createPost("1위");
+        Long second = createPost("2위");
+        for (int i = 0; i < 100_000; i++) {
+            postViewCounter.record(first);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            postViewCounter.record(second);
+        }
+
+        postViewCounter.flush();
+
+        List<PostViewCountDto> top = postViewCounter.getMostViewed(2);
+        assertThat(top).extracting(PostViewCountDto::getId).containsExactly(first, second);
+        assertThat(top.get(0).getViews()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("게시글을 수정해도 반영된 조회수는 유지된다")
+    void shouldKeepViewsOnUpdate() {
+        Long id = createPost("수정 전");
+        postViewCounter.record(id);
+        postViewCounter.record(id);
+        postViewCounter.flush();
+
+        postService.updatePost(id, new PostRequestDto("수정 후", "작성자", "pass1234", "내용"));
+
+        assertThat(viewsOf(id)).isEqualTo(2);
+    }
+
+    private Long createPost(String title) {
+        Post post = postService.createPost(new PostRequestDto(title, "작성자", "pass1234", "내용").toEntity());
+        createdIds.add(post.getId());
+        return post.getId();
+    }
+
+    private long viewsOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT views FROM post WHERE id = ?", Long.class, id);
+    }
+}
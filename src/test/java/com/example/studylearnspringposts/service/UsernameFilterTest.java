@@ -0,0 +1,59 @@
+package com.example.studylearnspringposts.service;
+
+import com.example.studylearnspringposts.cache.CacheInvalidationBus;
+import com.example.studylearnspringposts.cache.LocalInvalidationTransport;
+import com.example.studylearnspringposts.repository.MyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전달 수단 하나를 공유하는 버스 두 개로 인스턴스 두 개를 흉내냄
+ */
+class UsernameFilterTest {
+
+    private final MyRepository myRepository = mock(MyRepository.class);
+    private final LocalInvalidationTransport transport = new LocalInvalidationTransport();
+    private final CacheInvalidationBus busA = new CacheInvalidationBus(transport, 100);
+    private final CacheInvalidationBus busB = new CacheInvalidationBus(transport, 100);
+    private final UsernameFilter filterA = new UsernameFilter(myRepository, busA, 100, 0.01);
+    private final UsernameFilter filterB = new UsernameFilter(myRepository, busB, 100, 0.01);
+
+    @Test
+    @DisplayName("한 인스턴스에서 가입한 username 은 전송 후 다른 인스턴스의 필터에도 추가된다")
+    void shouldPropagateSignupToOtherInstance() {
+        when(myRepository.count()).thenReturn(0L);
+        when(myRepository.streamAllUsernames()).thenAnswer(invocation -> Stream.empty());
+        filterA.rebuild();
+        filterB.rebuild();
+
+        filterA.add("newuser1");
+
+        assertThat(filterA.mightExist("newuser1")).isTrue();
+        assertThat(filterB.mightExist("newuser1")).isFalse(); // 아직 전송 전
+
+        busA.flush();
+
+        assertThat(filterB.mightExist("newuser1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("전송이 유실돼도 다시 만들면 DB 의 username 이 반영된다")
+    void shouldRecoverOnRebuild() {
+        when(myRepository.count()).thenReturn(0L, 1L);
+        when(myRepository.streamAllUsernames())
+                .thenAnswer(invocation -> Stream.empty())
+                .thenAnswer(invocation -> Stream.of("lostuser"));
+        filterB.rebuild();
+        assertThat(filterB.mightExist("lostuser")).isFalse();
+
+        filterB.rebuild();
+
+        assertThat(filterB.mightExist("lostuser")).isTrue();
+    }
+}
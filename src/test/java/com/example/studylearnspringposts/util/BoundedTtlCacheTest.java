@@ -0,0 +1,52 @@
+package com.example.studylearnspringposts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, Duration.ofSeconds(10), now::get);
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void shouldEvictLeastRecentlyUsed() {
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");          // a 를 최근 사용으로 갱신
+        cache.put("c", "C");     // b 제거
+
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회되지 않는다")
+    void shouldExpireAfterTtl() {
+        cache.put("a", "A");
+
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.get("a")).isEqualTo("A");
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("putIfAbsent 는 살아있는 값이 있으면 그 값을 돌려준다")
+    void shouldKeepExistingValueOnPutIfAbsent() {
+        assertThat(cache.putIfAbsent("a", "A")).isNull();
+        assertThat(cache.putIfAbsent("a", "other")).isEqualTo("A");
+
+        cache.invalidate("a");
+        assertThat(cache.putIfAbsent("a", "other")).isNull();
+        assertThat(cache.get("a")).isEqualTo("other");
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.studylearnspringposts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 값은 값 크기와 상관없이 약 2% 이내 오차로 계산된다")
+    void shouldReportPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000); // 1us ~ 10ms
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(10_000);
+        assertThat((double) snapshot.getValueAtPercentile(50)).isCloseTo(5_000_000, within(5_000_000 * 0.02));
+        assertThat((double) snapshot.getValueAtPercentile(99)).isCloseTo(9_900_000, within(9_900_000 * 0.02));
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(10_000_000);
+        assertThat(snapshot.getMeanNanos()).isEqualTo(5_000_500);
+    }
+
+    @Test
+    @DisplayName("버킷 경계에서 인덱스가 연속되고 각 값은 자기 버킷의 범위 안에 있다")
+    void shouldMapValuesToContiguousBuckets() {
+        int previous = -1;
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(index).isBetween(previous, previous + 1);
+            assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+            previous = index;
+        }
+    }
+
+    @Test
+    @DisplayName("추적 범위를 넘는 값과 음수는 범위 안으로 잘라서 기록한다")
+    void shouldClampOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getValueAtPercentile(0)).isZero();
+        assertThat(snapshot.getMaxNanos()).isEqualTo(LatencyHistogram.MAX_TRACKABLE);
+    }
+
+    @Test
+    @DisplayName("초기화하면 기록이 모두 사라진다")
+    void shouldReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.reset();
+
+        assertThat(histogram.snapshot().getCount()).isZero();
+        assertThat(histogram.snapshot().getValueAtPercentile(99)).isZero();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.studylearnspringposts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapSlabCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    // 16바이트 블록 4개짜리 슬랩 하나 = 전체 64바이트
+    private final OffHeapSlabCache cache = new OffHeapSlabCache(64, 64, 16, Duration.ofSeconds(10), now::get);
+
+    @Test
+    @DisplayName("여러 블록에 걸친 값도 그대로 돌려주고, 같은 키는 교체한다")
+    void shouldStoreValuesAcrossBlocks() {
+        byte[] value = new byte[40];
+        new Random(42).nextBytes(value);
+
+        assertThat(cache.put(1L, value)).isTrue();
+        assertThat(cache.get(1L)).isEqualTo(value);
+        assertThat(cache.getUsedBytes()).isEqualTo(40);
+
+        cache.put(1L, bytes(5));
+        assertThat(cache.get(1L)).isEqualTo(bytes(5));
+        assertThat(cache.getUsedBytes()).isEqualTo(5);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량이 차면 최근에 조회되지 않은 항목부터 제거한다 (CLOCK)")
+    void shouldEvictUnreferencedEntries() {
+        for (long key = 1; key <= 4; key++) {
+            cache.put(key, bytes(16));
+        }
+        cache.get(1L);
+
+        cache.put(5L, bytes(16));
+
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isNotNull();
+        assertThat(cache.get(5L)).isNotNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getAllocatedBytes()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("슬랩은 필요할 때만 할당하고 전체 용량보다 큰 값은 넣지 않는다")
+    void shouldAllocateLazilyAndRejectOversizedValues() {
+        OffHeapSlabCache lazy = new OffHeapSlabCache(1024, 256, 16, Duration.ofSeconds(10), now::get);
+        assertThat(lazy.getAllocatedBytes()).isZero();
+
+        lazy.put(1L, bytes(100));
+        assertThat(lazy.getAllocatedBytes()).isEqualTo(256);
+        lazy.put(2L, bytes(200));
+        assertThat(lazy.getAllocatedBytes()).isEqualTo(512);
+
+        assertThat(lazy.put(3L, bytes(2000))).isFalse();
+        assertThat(lazy.get(3L)).isNull();
+        assertThat(lazy.getCapacityBytes()).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회되지 않고 블록을 돌려준다")
+    void shouldExpireAfterTtl() {
+        cache.put(1L, bytes(64));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getUsedBytes()).isZero();
+
+        assertThat(cache.put(2L, bytes(64))).isTrue();
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("invalidateAll 후에도 할당된 슬랩을 다시 사용한다")
+    void shouldReuseSlabsAfterInvalidateAll() {
+        cache.put(1L, bytes(32));
+        cache.put(2L, bytes(32));
+
+        cache.invalidateAll();
+        cache.put(3L, bytes(64));
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(3L)).isEqualTo(bytes(64));
+        assertThat(cache.getAllocatedBytes()).isEqualTo(64);
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] value = new byte[length];
+        for (int i = 0; i < length; i++) {
+            value[i] = (byte) (i * 31 + length);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.studylearnspringposts.util;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostCompressionFilter 단위 테스트
+ * 스프링 컨텍스트 없이 Mock 요청/응답으로 압축 동작을 확인
+ */
+class PostCompressionFilterTest {
+    private static final Logger log = LoggerFactory.getLogger(PostCompressionFilterTest.class);
+
+    private final PostCompressionFilter filter = new PostCompressionFilter(true, 1024, 8192, 16);
+
+    @Test
+    @DisplayName("gzip 을 허용하는 클라이언트에게는 압축된 응답을 보낸다")
+    void shouldCompressWithGzip() throws Exception {
+        byte[] body = jsonBody(4096);
+
+        MockHttpServletResponse response = execute("/api/v1/posts", "gzip, deflate", body);
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("deflate 만 허용하면 deflate 로 압축한다")
+    void shouldCompressWithDeflate() throws Exception {
+        byte[] body = jsonBody(4096);
+
+        MockHttpServletResponse response = execute("/api/v1/posts", "deflate, gzip;q=0", body);
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+        assertThat(inflate(response.getContentAsByteArray())).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("최소 크기보다 작은 응답은 압축하지 않는다")
+    void shouldNotCompressSmallBody() throws Exception {
+        byte[] body = jsonBody(100);
+
+        MockHttpServletResponse response = execute("/api/v1/posts/1", "gzip", body);
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("큰 단건 게시글은 캐시된 압축본을 재사용한다")
+    void shouldReusePrecompressedVariant() throws Exception {
+        byte[] body = jsonBody(16384);
+
+        MockHttpServletResponse first = execute("/api/v1/posts/7", "gzip", body);
+        MockHttpServletResponse second = execute("/api/v1/posts/7", "gzip", body);
+
+        assertThat(filter.getCompressionCount()).isEqualTo(1);
+        assertThat(filter.getVariantHitCount()).isEqualTo(1);
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+
+        // 본문이 바뀌면 체크섬이 달라져 다시 압축
+        byte[] changed = jsonBody(16385);
+        MockHttpServletResponse third = execute("/api/v1/posts/7", "gzip", changed);
+
+        assertThat(filter.getCompressionCount()).isEqualTo(2);
+        assertThat(gunzip(third.getContentAsByteArray())).isEqualTo(changed);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 요청당 CPU 시간 vs 절약된 바이트")
+    void benchmarkCpuPerRequestVersusBytesSaved() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int iterations = 2000;
+
+        for (int size : new int[]{2048, 16384, 131072}) {
+            byte[] body = jsonBody(size);
+
+            long plainCpu = measureCpu(threads, iterations, "/api/v1/posts", null, body);
+            long compressCpu = measureCpu(threads, iterations, "/api/v1/posts", "gzip", body);
+            long variantCpu = measureCpu(threads, iterations, "/api/v1/posts/1", "gzip", body);
+
+            int compressedSize = execute("/api/v1/posts", "gzip", body).getContentAsByteArray().length;
+
+            log.info("[compression] body={}B compressed={}B saved={}B | cpu/req plain={}us gzip={}us precompressed={}us",
+                    size, compressedSize, size - compressedSize,
+                    plainCpu / iterations / 1000, compressCpu / iterations / 1000, variantCpu / iterations / 1000);
+        }
+    }
+
+    private long measureCpu(ThreadMXBean threads, int iterations, String uri, String acceptEncoding, byte[] body)
+            throws Exception {
+        for (int i = 0; i < iterations / 10; i++) {
+            execute(uri, acceptEncoding, body);
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            execute(uri, acceptEncoding, body);
+        }
+        return threads.getCurrentThreadCpuTime() - start;
+    }
+
+    private MockHttpServletResponse execute(String uri, String acceptEncoding, byte[] body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FilterChain chain = (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(body);
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static byte[] jsonBody(int size) {
+        StringBuilder content = new StringBuilder(size);
+        String sentence = "API 게이트웨이 패턴을 적용한 게시판의 본문입니다. Spring Boot post content. ";
+        while (content.length() < size) {
+            content.append(sentence);
+        }
+        String json = "{\"id\":1,\"title\":\"제목\",\"content\":\"" + content.substring(0, size) + "\"}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) throws IOException {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
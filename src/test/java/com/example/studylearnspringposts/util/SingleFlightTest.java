@@ -0,0 +1,103 @@
+package com.example.studylearnspringposts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Object> flight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("실행 중인 키로 들어온 호출은 loader 를 다시 실행하지 않고 같은 결과를 받는다")
+    void shouldShareInFlightResult() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+
+        List<Future<Object>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> flight.execute("post-1", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new Object();
+        })));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> flight.execute("post-1", () -> {
+                loads.incrementAndGet();
+                return new Object();
+            })));
+        }
+        // 뒤에 온 호출들이 모두 대기에 들어갈 때까지 기다린 뒤 첫 로드를 끝냄
+        while (flight.getSharedCount() < 8) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        Object first = futures.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Object> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        executor.shutdown();
+
+        assertThat(loads).hasValue(1);
+        assertThat(flight.getExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로드가 끝나면 키를 지워서 다음 호출은 다시 실행한다")
+    void shouldNotRetainResult() {
+        Object first = flight.execute("post-1", Object::new);
+        Object second = flight.execute("post-1", Object::new);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(flight.getExecutionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("loader 의 예외는 대기 중인 호출에도 그대로 전달되고, 다음 호출은 다시 실행한다")
+    void shouldPropagateFailure() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<Object> leader = executor.submit(() -> flight.execute("post-1", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("조회 실패");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Object> follower = executor.submit(() -> flight.execute("post-1", Object::new));
+        while (flight.getSharedCount() < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThatThrownBy(leader::get).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(follower::get).hasCauseInstanceOf(IllegalStateException.class);
+        executor.shutdown();
+
+        assertThat(flight.execute("post-1", () -> "재시도")).isEqualTo("재시도");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}